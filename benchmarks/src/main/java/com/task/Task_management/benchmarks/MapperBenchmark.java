@@ -0,0 +1,101 @@
+package com.task.Task_management.benchmarks;
+
+import com.task.Task_management.mapper.ProjectRowMapper;
+import com.task.Task_management.mapper.TaskRowMapper;
+import com.task.Task_management.mapper.UserRowMapper;
+import com.task.Task_management.model.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+// Maps a full result of `rows` rows per operation, comparing the ordinal-resolving
+// mappers with per-row name lookups. Run with -prof gc to compare allocation per row.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class MapperBenchmark {
+
+    private static final String[] TASK_LABELS = TaskRowMapper.COLUMNS.split(", ");
+    private static final String[] USER_LABELS = UserRowMapper.COLUMNS.split(", ");
+    private static final String[] PROJECT_LABELS = ProjectRowMapper.COLUMNS.split(", ");
+
+    @Param({ "10000", "1000000", "10000000" })
+    private int rows;
+
+    private Object[] taskColumns;
+    private Object[] userColumns;
+    private Object[] projectColumns;
+
+    private final TaskRowMapper taskMapper = new TaskRowMapper();
+    private final UserRowMapper userMapper = new UserRowMapper();
+    private final ProjectRowMapper projectMapper = new ProjectRowMapper();
+
+    @Setup
+    public void setUp() {
+        SyntheticTasks data = new SyntheticTasks(rows);
+        short[] roleCodes = new short[rows];
+        for (int i = 0; i < rows; i++) {
+            roleCodes[i] = (short) (data.statusCodes[i] % UserRole.values().length);
+        }
+
+        // Users and projects reuse the task columns; only their shapes matter here
+        taskColumns = data.columns();
+        userColumns = new Object[] { data.ids, data.names, data.descriptions, roleCodes };
+        projectColumns = new Object[] { data.ids, data.names, data.descriptions, data.dueDates, data.dueDates };
+    }
+
+    @Benchmark
+    public void taskByName(Blackhole blackhole) throws SQLException {
+        mapAll(NameLookupMappers.TASK, new ArrayResultSet(TASK_LABELS, taskColumns, rows), blackhole);
+    }
+
+    @Benchmark
+    public void taskByOrdinal(Blackhole blackhole) throws SQLException {
+        mapAll(taskMapper, new ArrayResultSet(TASK_LABELS, taskColumns, rows), blackhole);
+    }
+
+    @Benchmark
+    public void userByName(Blackhole blackhole) throws SQLException {
+        mapAll(NameLookupMappers.USER, new ArrayResultSet(USER_LABELS, userColumns, rows), blackhole);
+    }
+
+    @Benchmark
+    public void userByOrdinal(Blackhole blackhole) throws SQLException {
+        mapAll(userMapper, new ArrayResultSet(USER_LABELS, userColumns, rows), blackhole);
+    }
+
+    @Benchmark
+    public void projectByName(Blackhole blackhole) throws SQLException {
+        mapAll(NameLookupMappers.PROJECT, new ArrayResultSet(PROJECT_LABELS, projectColumns, rows), blackhole);
+    }
+
+    @Benchmark
+    public void projectByOrdinal(Blackhole blackhole) throws SQLException {
+        mapAll(projectMapper, new ArrayResultSet(PROJECT_LABELS, projectColumns, rows), blackhole);
+    }
+
+    // Same loop as Spring's RowMapperResultSetExtractor, minus collecting into a list
+    private static <T> void mapAll(RowMapper<T> mapper, ResultSet rs, Blackhole blackhole) throws SQLException {
+        int rowNum = 0;
+        while (rs.next()) {
+            blackhole.consume(mapper.mapRow(rs, rowNum++));
+        }
+    }
+}
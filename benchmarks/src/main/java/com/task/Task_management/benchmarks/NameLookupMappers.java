@@ -0,0 +1,49 @@
+package com.task.Task_management.benchmarks;
+
+import com.task.Task_management.model.Project;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+import com.task.Task_management.model.User;
+import com.task.Task_management.model.UserRole;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+
+// The row mappers as they were before ordinal resolution: every column looked up by name on every row
+final class NameLookupMappers {
+
+    static final RowMapper<Task> TASK = (rs, rowNum) -> {
+        Task task = new Task();
+        task.setId(rs.getInt("id"));
+        task.setName(rs.getString("name"));
+        task.setDescription(rs.getString("description"));
+        task.setStatus(TaskStatus.fromCode(rs.getShort("status")));
+        task.setPriority(rs.getInt("priority"));
+        task.setDueDate(rs.getObject("dueDate", LocalDate.class));
+        task.setProjectId(rs.getInt("projectId"));
+        task.setUserId(rs.getInt("userId"));
+        return task;
+    };
+
+    static final RowMapper<User> USER = (rs, rowNum) -> {
+        User user = new User();
+        user.setId(rs.getInt("id"));
+        user.setUsername(rs.getString("username"));
+        user.setEmail(rs.getString("email"));
+        user.setRole(UserRole.fromCode(rs.getShort("role")));
+        return user;
+    };
+
+    static final RowMapper<Project> PROJECT = (rs, rowNum) -> {
+        Project project = new Project();
+        project.setId(rs.getInt("id"));
+        project.setName(rs.getString("name"));
+        project.setDescription(rs.getString("description"));
+        project.setStartDate(rs.getObject("startDate", LocalDate.class));
+        project.setEndDate(rs.getObject("endDate", LocalDate.class));
+        return project;
+    };
+
+    private NameLookupMappers() {
+    }
+}
@@ -0,0 +1,31 @@
+package com.task.Task_management.benchmarks;
+
+import com.task.Task_management.analytics.DueDateIndex;
+import com.task.Task_management.analytics.TaskColumnStore;
+import com.task.Task_management.dao.ProjectDAO;
+import com.task.Task_management.dao.TaskCounterDAO;
+import com.task.Task_management.dao.TaskDAO;
+import com.task.Task_management.dao.UserDAO;
+import com.task.Task_management.dispatch.TaskQueues;
+import com.task.Task_management.service.TaskService;
+import com.task.Task_management.sync.ChangePublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+// Wires the real service beans around a DataSource that is never connected, for
+// benchmarks that only exercise in-memory paths. Any method that reaches the
+// database fails instead of silently measuring something else.
+final class OfflineServices {
+
+    static AnnotationConfigApplicationContext create() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(JdbcTemplate.class, () -> new JdbcTemplate(new DriverManagerDataSource("jdbc:postgresql://offline.invalid/none")));
+        context.register(TaskDAO.class, TaskCounterDAO.class, UserDAO.class, ProjectDAO.class, TaskColumnStore.class, DueDateIndex.class, TaskQueues.class, ChangePublisher.class, TaskService.class);
+        context.refresh();
+        return context;
+    }
+
+    private OfflineServices() {
+    }
+}
@@ -0,0 +1,91 @@
+package com.task.Task_management.benchmarks;
+
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Deterministic task data for the benchmarks. Names, descriptions and due dates come from
+// small pools, so ten million rows fit in a few hundred megabytes of heap.
+final class SyntheticTasks {
+
+    static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    private static final int POOL_SIZE = 1024;
+    private static final int DUE_DATE_SPREAD = 365;
+
+    final int size;
+    final int projectCount;
+    final int userCount;
+
+    final int[] ids;
+    final String[] names;
+    final String[] descriptions;
+    final short[] statusCodes;
+    final int[] priorities;
+    final LocalDate[] dueDates;
+    final int[] projectIds;
+    final int[] userIds;
+
+    SyntheticTasks(int size) {
+        this.size = size;
+        this.projectCount = Math.max(10, size / 1000);
+        this.userCount = Math.max(10, size / 200);
+
+        String[] namePool = new String[POOL_SIZE];
+        String[] descriptionPool = new String[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            namePool[i] = "task-" + i;
+            descriptionPool[i] = "synthetic benchmark task number " + i;
+        }
+        LocalDate[] datePool = new LocalDate[DUE_DATE_SPREAD];
+        for (int i = 0; i < DUE_DATE_SPREAD; i++) {
+            datePool[i] = TODAY.minusDays(DUE_DATE_SPREAD / 2).plusDays(i);
+        }
+
+        ids = new int[size];
+        names = new String[size];
+        descriptions = new String[size];
+        statusCodes = new short[size];
+        priorities = new int[size];
+        dueDates = new LocalDate[size];
+        projectIds = new int[size];
+        userIds = new int[size];
+
+        SplittableRandom random = new SplittableRandom(42);
+        int statusCount = TaskStatus.values().length;
+        for (int i = 0; i < size; i++) {
+            ids[i] = i + 1;
+            names[i] = namePool[random.nextInt(POOL_SIZE)];
+            descriptions[i] = descriptionPool[random.nextInt(POOL_SIZE)];
+            statusCodes[i] = (short) random.nextInt(statusCount);
+            priorities[i] = 1 + random.nextInt(5);
+            dueDates[i] = datePool[random.nextInt(DUE_DATE_SPREAD)];
+            projectIds[i] = 1 + random.nextInt(projectCount);
+            userIds[i] = 1 + random.nextInt(userCount);
+        }
+    }
+
+    Task task(int row) {
+        Task task = new Task(names[row], descriptions[row], TaskStatus.fromCode(statusCodes[row]), priorities[row],
+                dueDates[row], projectIds[row], userIds[row]);
+        task.setId(ids[row]);
+        return task;
+    }
+
+    List<Task> tasks() {
+        List<Task> tasks = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            tasks.add(task(row));
+        }
+        return tasks;
+    }
+
+    // Columns in the order of TaskRowMapper.COLUMNS, the positions the mapper reads
+    Object[] columns() {
+        return new Object[] { ids, names, descriptions, statusCodes, priorities, dueDates, projectIds, userIds };
+    }
+}
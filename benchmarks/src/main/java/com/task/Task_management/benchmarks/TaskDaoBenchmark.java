@@ -0,0 +1,155 @@
+package com.task.Task_management.benchmarks;
+
+import com.task.Task_management.dao.Page;
+import com.task.Task_management.dao.ProjectDAO;
+import com.task.Task_management.dao.TaskCriteria;
+import com.task.Task_management.dao.TaskDAO;
+import com.task.Task_management.dao.UserDAO;
+import com.task.Task_management.model.Project;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+import com.task.Task_management.model.User;
+import com.task.Task_management.model.UserRole;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// End-to-end TaskDAO CRUD against a real PostgreSQL database with the schema installed.
+// Connection settings come from BENCH_JDBC_URL, BENCH_JDBC_USER and BENCH_JDBC_PASSWORD.
+// Rows are created under a fresh user and project and removed again at the end.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskDaoBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({ "10000" })
+    private int seedTasks;
+
+    private AnnotationConfigApplicationContext context;
+    private JdbcTemplate jdbc;
+    private TaskDAO taskDAO;
+    private int userId;
+    private int projectId;
+    private int[] seededIds;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(DataSource.class, TaskDaoBenchmark::dataSource);
+        context.registerBean(JdbcTemplate.class, () -> new JdbcTemplate(context.getBean(DataSource.class)));
+        context.register(TaskDAO.class, UserDAO.class, ProjectDAO.class);
+        context.refresh();
+
+        jdbc = context.getBean(JdbcTemplate.class);
+        taskDAO = context.getBean(TaskDAO.class);
+
+        String suffix = Long.toString(System.nanoTime());
+        userId = context.getBean(UserDAO.class).save(new User("bench" + suffix, "bench" + suffix + "@example.com", UserRole.USER));
+        projectId = context.getBean(ProjectDAO.class).save(
+                new Project("bench" + suffix, "TaskDAO benchmark", SyntheticTasks.TODAY, SyntheticTasks.TODAY.plusYears(1)));
+
+        List<Task> seed = new ArrayList<>(seedTasks);
+        for (int i = 0; i < seedTasks; i++) {
+            seed.add(newTask(i));
+        }
+        seededIds = taskDAO.saveAll(seed);
+    }
+
+    @TearDown
+    public void tearDown() {
+        try {
+            jdbc.update("delete from tasks where projectId = ?", projectId);
+            jdbc.update("delete from projects where id = ?", projectId);
+            jdbc.update("delete from users where id = ?", userId);
+        } finally {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public int insert() {
+        return taskDAO.save(newTask(ThreadLocalRandom.current().nextInt()));
+    }
+
+    @Benchmark
+    public int[] insertBatch() {
+        List<Task> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(newTask(i));
+        }
+        return taskDAO.saveAll(batch);
+    }
+
+    @Benchmark
+    public Task findById() {
+        return taskDAO.findById(randomSeededId());
+    }
+
+    @Benchmark
+    public Task update() {
+        Task task = taskDAO.findById(randomSeededId());
+        task.setPriority(1 + task.getPriority() % 5);
+        taskDAO.update(task);
+        return task;
+    }
+
+    @Benchmark
+    public void insertAndDelete() {
+        taskDAO.deleteById(taskDAO.save(newTask(0)));
+    }
+
+    @Benchmark
+    public Page<Task> firstPageOfProject() {
+        return taskDAO.findPage(TaskCriteria.all().projectId(projectId), null, PAGE_SIZE);
+    }
+
+    private int randomSeededId() {
+        return seededIds[ThreadLocalRandom.current().nextInt(seededIds.length)];
+    }
+
+    private Task newTask(int i) {
+        TaskStatus status = TaskStatus.fromCode(Math.floorMod(i, TaskStatus.values().length));
+        return new Task("bench-" + Math.floorMod(i, 1000), "TaskDAO benchmark row", status, 1 + Math.floorMod(i, 5),
+                SyntheticTasks.TODAY.plusDays(Math.floorMod(i, 90)), projectId, userId);
+    }
+
+    private static DataSource dataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(env("BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/task_management"));
+        config.setUsername(env("BENCH_JDBC_USER", "postgres"));
+        config.setPassword(env("BENCH_JDBC_PASSWORD", ""));
+        config.setMaximumPoolSize(4);
+        config.addDataSourceProperty("reWriteBatchedInserts", "true");
+        return new HikariDataSource(config);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+}
@@ -0,0 +1,102 @@
+package com.task.Task_management.benchmarks;
+
+import com.task.Task_management.analytics.TaskColumnStore;
+import com.task.Task_management.dao.TaskCriteria;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskCounts;
+import com.task.Task_management.model.TaskStatus;
+import com.task.Task_management.service.TaskService;
+import com.task.Task_management.service.TaskService.TaskStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// TaskService statistics and filtering over synthetic data held in memory: the
+// task list a caller already has, and the column store behind the group-by statistics.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TaskServiceBenchmark {
+
+    @Param({ "10000", "1000000", "10000000" })
+    private int tasks;
+
+    private AnnotationConfigApplicationContext context;
+    private TaskService taskService;
+    private TaskColumnStore columnStore;
+    private List<Task> taskList;
+    private TaskCriteria filter;
+    private int filterProjectId;
+
+    @Setup
+    public void setUp() {
+        SyntheticTasks data = new SyntheticTasks(tasks);
+        taskList = data.tasks();
+
+        context = OfflineServices.create();
+        taskService = context.getBean(TaskService.class);
+        columnStore = context.getBean(TaskColumnStore.class);
+        columnStore.load(taskList.stream());
+
+        filterProjectId = data.projectIds[0];
+        filter = TaskCriteria.all().projectId(filterProjectId).status(TaskStatus.TODO).priorityBetween(3, 5);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskStatistics calculateTaskStatistics() {
+        return taskService.calculateTaskStatistics(taskList, "benchmark");
+    }
+
+    @Benchmark
+    public Map<Integer, TaskStatistics> statisticsByProject() {
+        return taskService.getTaskStatisticsByProject();
+    }
+
+    @Benchmark
+    public Map<Integer, TaskStatistics> statisticsByUser() {
+        return taskService.getTaskStatisticsByUser();
+    }
+
+    @Benchmark
+    public TaskCounts countFilteredInColumnStore() {
+        return columnStore.countByCriteria(filter, SyntheticTasks.TODAY);
+    }
+
+    @Benchmark
+    public int[] filterInColumnStore() {
+        return columnStore.findIds(filter);
+    }
+
+    // The same filter as a stream over task objects, for comparison with the column store
+    @Benchmark
+    public int[] filterTaskList() {
+        return taskList.stream()
+                .filter(task -> task.getProjectId() == filterProjectId
+                        && task.getStatus() == TaskStatus.TODO
+                        && task.getPriority() >= 3 && task.getPriority() <= 5)
+                .mapToInt(Task::getId)
+                .toArray();
+    }
+}
@@ -0,0 +1,323 @@
+package com.task.Task_management.analytics;
+
+import com.task.Task_management.dao.TaskDAO;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+import com.task.Task_management.service.TaskChangeBuffer;
+import com.task.Task_management.service.TaskChangeListener;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Task ids by due date (epoch day), loaded once from TaskDAO.streamAll() and kept current
+// through after-commit TaskChangeListener callbacks. Answers overdue and due-within queries
+// from memory, and at each midnight publishes a TasksOverdueEvent for the tasks that
+// became overdue, so nothing has to poll the database for them.
+@Component
+public class DueDateIndex implements TaskChangeListener, ApplicationEventPublisherAware, InitializingBean, DisposableBean {
+
+    private static final System.Logger LOGGER = System.getLogger(DueDateIndex.class.getName());
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    // Turns off the midnight rollover (and with it the TasksOverdueEvents)
+    @Value("${index.due-date.overdue-events:true}")
+    private boolean overdueEvents;
+
+    private ApplicationEventPublisher events;
+    private ScheduledExecutorService scheduler;
+    private Clock clock = Clock.systemDefaultZone();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Integer, Bucket> buckets = new TreeMap<>();
+
+    // Task id -> due day << 1 | 1 when completed, to find the entry again on update and delete
+    private final Map<Integer, Integer> slotById = new HashMap<>();
+
+    // Loaded flag, and the changes arriving while a load reads the table
+    private final TaskChangeBuffer changes = new TaskChangeBuffer();
+
+    // Day of the last rollover; tasks due before it were already reported
+    private LocalDate lastRollover;
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher events) {
+        this.events = events;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        lastRollover = LocalDate.now(clock);
+        if (overdueEvents) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "due-date-rollover");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduleRollover();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // Replaces the contents with the current tasks table
+    public void reload() {
+        load(taskDAO::streamAll);
+    }
+
+    // Replaces the contents with the given tasks
+    public void load(Stream<Task> tasks) {
+        load(() -> tasks);
+    }
+
+    private void load(Supplier<Stream<Task>> source) {
+        long load = changes.startLoad();
+        try (Stream<Task> tasks = source.get()) {
+            lock.writeLock().lock();
+            try {
+                buckets.clear();
+                slotById.clear();
+                tasks.forEach(this::insert);
+                if (!changes.finishLoad(load, this::invalidate)) {
+                    buckets.clear();
+                    slotById.clear();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            changes.abortLoad(load);
+            throw e;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            changes.invalidate();
+            buckets.clear();
+            slotById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return changes.isLoaded();
+    }
+
+    // Open tasks due before today, ordered by due date
+    public int[] overdueIds(LocalDate today) {
+        return collect(Integer.MIN_VALUE, (int) today.toEpochDay() - 1, false);
+    }
+
+    public int countOverdue(LocalDate today) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (Bucket bucket : buckets.headMap((int) today.toEpochDay(), false).values()) {
+                count += bucket.openSize;
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // All tasks due in the window (both bounds inclusive), ordered by due date
+    public int[] dueBetween(LocalDate from, LocalDate to) {
+        return collect((int) from.toEpochDay(), (int) to.toEpochDay(), true);
+    }
+
+    @Override
+    public void onTaskSaved(Task task) {
+        apply(() -> {
+            remove(task.getId());
+            insert(task);
+        });
+    }
+
+    @Override
+    public void onTaskDeleted(int taskId) {
+        apply(() -> remove(taskId));
+    }
+
+    // Publishes the tasks that became overdue since the last rollover; normally runs just after
+    // midnight, and catches up on every missed day when the process was suspended
+    public void rollOver(LocalDate today) {
+        LocalDate previous;
+        synchronized (this) {
+            if (!today.isAfter(lastRollover)) {
+                return;
+            }
+            previous = lastRollover;
+            lastRollover = today;
+        }
+
+        int[] ids = collect((int) previous.toEpochDay(), (int) today.toEpochDay() - 1, false);
+        if (ids.length > 0 && events != null) {
+            events.publishEvent(new TasksOverdueEvent(today, Arrays.stream(ids).boxed().toList()));
+        }
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private void scheduleRollover() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay();
+        long delayMillis = Duration.between(now, midnight).toMillis() + 1;
+        scheduler.schedule(() -> {
+            try {
+                rollOver(LocalDate.now(clock));
+            } catch (RuntimeException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Due date rollover failed", e);
+            } finally {
+                // Rescheduled from the wall clock each day, so daylight saving changes do not shift it
+                scheduleRollover();
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private int[] collect(int fromDay, int toDay, boolean includeCompleted) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            if (fromDay > toDay) {
+                return new int[0];
+            }
+            List<Bucket> window = List.copyOf(buckets.subMap(fromDay, true, toDay, true).values());
+            int size = 0;
+            for (Bucket bucket : window) {
+                size += bucket.openSize + (includeCompleted ? bucket.completedSize : 0);
+            }
+            int[] ids = new int[size];
+            int position = 0;
+            for (Bucket bucket : window) {
+                System.arraycopy(bucket.open, 0, ids, position, bucket.openSize);
+                position += bucket.openSize;
+                if (includeCompleted) {
+                    System.arraycopy(bucket.completed, 0, ids, position, bucket.completedSize);
+                    position += bucket.completedSize;
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Runs a change under the write lock, or leaves it to the load in progress (or the first load)
+    private void apply(Runnable change) {
+        if (!changes.admit(change)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!changes.isLoaded()) {
+            synchronized (this) {
+                if (!changes.isLoaded()) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private void insert(Task task) {
+        int day = (int) task.getDueDate().toEpochDay();
+        boolean completed = task.getStatus() == TaskStatus.COMPLETED;
+        buckets.computeIfAbsent(day, key -> new Bucket()).add(task.getId(), completed);
+        slotById.put(task.getId(), day << 1 | (completed ? 1 : 0));
+    }
+
+    private void remove(int taskId) {
+        Integer slot = slotById.remove(taskId);
+        if (slot == null) {
+            return;
+        }
+        int day = slot >> 1;
+        Bucket bucket = buckets.get(day);
+        bucket.remove(taskId, (slot & 1) == 1);
+        if (bucket.openSize == 0 && bucket.completedSize == 0) {
+            buckets.remove(day);
+        }
+    }
+
+    // Ids due on one day, open and completed kept apart so overdue queries skip the completed ones
+    private static class Bucket {
+        int[] open = new int[4];
+        int openSize;
+        int[] completed = new int[0];
+        int completedSize;
+
+        void add(int id, boolean isCompleted) {
+            if (isCompleted) {
+                if (completedSize == completed.length) {
+                    completed = Arrays.copyOf(completed, Math.max(4, completedSize * 2));
+                }
+                completed[completedSize++] = id;
+            } else {
+                if (openSize == open.length) {
+                    open = Arrays.copyOf(open, openSize * 2);
+                }
+                open[openSize++] = id;
+            }
+        }
+
+        // Order within a day does not matter, so the last id fills the hole
+        void remove(int id, boolean isCompleted) {
+            if (isCompleted) {
+                completedSize = removeFrom(completed, completedSize, id);
+            } else {
+                openSize = removeFrom(open, openSize, id);
+            }
+        }
+
+        private static int removeFrom(int[] ids, int size, int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[size - 1];
+                    return size - 1;
+                }
+            }
+            return size;
+        }
+    }
+}
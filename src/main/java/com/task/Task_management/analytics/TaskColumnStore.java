@@ -0,0 +1,372 @@
+package com.task.Task_management.analytics;
+
+import com.task.Task_management.dao.TaskCriteria;
+import com.task.Task_management.dao.TaskDAO;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskCounts;
+import com.task.Task_management.model.TaskStatus;
+import com.task.Task_management.service.TaskChangeBuffer;
+import com.task.Task_management.service.TaskChangeListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Column-oriented copy of the tasks table for analytics. Each field lives in its own
+// primitive array, so counts, filters and group-bys are plain loops over arrays with no
+// per-row objects. Loaded from TaskDAO on first use and kept current by TaskService writes.
+@Component
+public class TaskColumnStore implements TaskChangeListener {
+
+    // Statuses are stored as their TaskStatus codes
+    private static final byte TODO = (byte) TaskStatus.TODO.getCode();
+    private static final byte IN_PROGRESS = (byte) TaskStatus.IN_PROGRESS.getCode();
+    private static final byte COMPLETED = (byte) TaskStatus.COMPLETED.getCode();
+    private static final byte BLOCKED = (byte) TaskStatus.BLOCKED.getCode();
+    private static final int STATUS_COUNT = TaskStatus.values().length;
+
+    private static final int ABSENT = -1;
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Integer> rowById = new HashMap<>();
+
+    private int[] ids = new int[0];
+    private int[] projectIds = new int[0];
+    private int[] userIds = new int[0];
+    private int[] dueDays = new int[0];
+    private byte[] priorities = new byte[0];
+    private byte[] statuses = new byte[0];
+    private int size;
+
+    // Loaded flag, and the changes arriving while a load reads the table
+    private final TaskChangeBuffer changes = new TaskChangeBuffer();
+
+    // Replaces the contents with the current tasks table
+    public void reload() {
+        load(taskDAO::streamAll);
+    }
+
+    // Replaces the contents with the given tasks
+    public void load(Stream<Task> tasks) {
+        load(() -> tasks);
+    }
+
+    private void load(Supplier<Stream<Task>> source) {
+        long load = changes.startLoad();
+        try (Stream<Task> tasks = source.get()) {
+            lock.writeLock().lock();
+            try {
+                clear();
+                tasks.forEach(this::append);
+                if (!changes.finishLoad(load, this::invalidate)) {
+                    clear();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            changes.abortLoad(load);
+            throw e;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            changes.invalidate();
+            clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return changes.isLoaded();
+    }
+
+    public int size() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onTaskSaved(Task task) {
+        apply(() -> {
+            Integer row = rowById.get(task.getId());
+            if (row == null) {
+                append(task);
+            } else {
+                set(row, task);
+            }
+        });
+    }
+
+    @Override
+    public void onTaskDeleted(int taskId) {
+        apply(() -> {
+            Integer row = rowById.remove(taskId);
+            if (row == null) {
+                return;
+            }
+            // Move the last row into the hole so the columns stay dense
+            int last = size - 1;
+            if (row != last) {
+                ids[row] = ids[last];
+                projectIds[row] = projectIds[last];
+                userIds[row] = userIds[last];
+                dueDays[row] = dueDays[last];
+                priorities[row] = priorities[last];
+                statuses[row] = statuses[last];
+                rowById.put(ids[row], row);
+            }
+            size--;
+        });
+    }
+
+    // Runs a change under the write lock, or leaves it to the load in progress (or the first load)
+    private void apply(Runnable change) {
+        if (!changes.admit(change)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Status counters and overdue count for the tasks matching the criteria (sort and limit are ignored)
+    public TaskCounts countByCriteria(TaskCriteria criteria, LocalDate today) {
+        ensureLoaded();
+        Filter filter = new Filter(criteria);
+        int todayDay = (int) today.toEpochDay();
+        long[] statusCounts = new long[STATUS_COUNT];
+        long total = 0;
+        long overdue = 0;
+
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < size; row++) {
+                if (filter.matches(this, row)) {
+                    total++;
+                    byte status = statuses[row];
+                    statusCounts[status]++;
+                    if (status != COMPLETED && dueDays[row] < todayDay) {
+                        overdue++;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return toCounts(total, statusCounts, overdue);
+    }
+
+    // Ids of the tasks matching the criteria, in storage order; the criteria limit caps the result
+    public int[] findIds(TaskCriteria criteria) {
+        ensureLoaded();
+        Filter filter = new Filter(criteria);
+        int limit = criteria.getLimit() != null ? criteria.getLimit() : Integer.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            int[] matches = new int[Math.min(64, Math.min(size, limit))];
+            int found = 0;
+            for (int row = 0; row < size && found < limit; row++) {
+                if (filter.matches(this, row)) {
+                    if (found == matches.length) {
+                        matches = Arrays.copyOf(matches, (int) Math.min(limit, found + (found >> 1) + 1L));
+                    }
+                    matches[found++] = ids[row];
+                }
+            }
+            return Arrays.copyOf(matches, found);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Status counters per project id, in ascending id order
+    public Map<Integer, TaskCounts> countByProject(LocalDate today) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return groupCounts(projectIds, (int) today.toEpochDay());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Status counters per user id, in ascending id order
+    public Map<Integer, TaskCounts> countByUser(LocalDate today) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return groupCounts(userIds, (int) today.toEpochDay());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Group keys are database ids. While they are dense each key counts at key - minKey; gaps in
+    // the sequence or ids inserted by hand would make that array huge, so then each key counts at
+    // its position among the distinct keys instead.
+    private Map<Integer, TaskCounts> groupCounts(int[] keys, int todayDay) {
+        Map<Integer, TaskCounts> groups = new LinkedHashMap<>();
+        if (size == 0) {
+            return groups;
+        }
+        int minKey = Integer.MAX_VALUE;
+        int maxKey = Integer.MIN_VALUE;
+        for (int row = 0; row < size; row++) {
+            minKey = Math.min(minKey, keys[row]);
+            maxKey = Math.max(maxKey, keys[row]);
+        }
+
+        int[] distinct = null;
+        int slots;
+        long span = (long) maxKey - minKey + 1;
+        if (span <= 2L * size + 1024) {
+            slots = (int) span;
+        } else {
+            distinct = distinctSorted(keys);
+            slots = distinct.length;
+        }
+
+        long[] statusCounts = new long[Math.multiplyExact(slots, STATUS_COUNT)];
+        long[] overdueCounts = new long[slots];
+        for (int row = 0; row < size; row++) {
+            int slot = distinct == null ? keys[row] - minKey : Arrays.binarySearch(distinct, keys[row]);
+            byte status = statuses[row];
+            statusCounts[slot * STATUS_COUNT + status]++;
+            if (status != COMPLETED && dueDays[row] < todayDay) {
+                overdueCounts[slot]++;
+            }
+        }
+
+        long[] groupStatusCounts = new long[STATUS_COUNT];
+        for (int slot = 0; slot < slots; slot++) {
+            long total = 0;
+            for (int status = 0; status < STATUS_COUNT; status++) {
+                groupStatusCounts[status] = statusCounts[slot * STATUS_COUNT + status];
+                total += groupStatusCounts[status];
+            }
+            if (total > 0) {
+                int key = distinct == null ? minKey + slot : distinct[slot];
+                groups.put(key, toCounts(total, groupStatusCounts, overdueCounts[slot]));
+            }
+        }
+        return groups;
+    }
+
+    private int[] distinctSorted(int[] keys) {
+        int[] sorted = Arrays.copyOf(keys, size);
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (count == 0 || sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    private static TaskCounts toCounts(long total, long[] statusCounts, long overdue) {
+        TaskCounts counts = new TaskCounts();
+        counts.setTotal(total);
+        counts.setTodo(statusCounts[TODO]);
+        counts.setInProgress(statusCounts[IN_PROGRESS]);
+        counts.setCompleted(statusCounts[COMPLETED]);
+        counts.setBlocked(statusCounts[BLOCKED]);
+        counts.setOverdue(overdue);
+        return counts;
+    }
+
+    private void ensureLoaded() {
+        if (!changes.isLoaded()) {
+            synchronized (this) {
+                if (!changes.isLoaded()) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private void clear() {
+        rowById.clear();
+        size = 0;
+    }
+
+    private void append(Task task) {
+        if (size == ids.length) {
+            int capacity = Math.max(16, size + (size >> 1));
+            ids = Arrays.copyOf(ids, capacity);
+            projectIds = Arrays.copyOf(projectIds, capacity);
+            userIds = Arrays.copyOf(userIds, capacity);
+            dueDays = Arrays.copyOf(dueDays, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+        }
+        rowById.put(task.getId(), size);
+        set(size++, task);
+    }
+
+    private void set(int row, Task task) {
+        ids[row] = task.getId();
+        projectIds[row] = task.getProjectId();
+        userIds[row] = task.getUserId();
+        dueDays[row] = (int) task.getDueDate().toEpochDay();
+        priorities[row] = (byte) task.getPriority();
+        statuses[row] = (byte) task.getStatus().getCode();
+    }
+
+    // TaskCriteria unpacked into primitives once per query, ABSENT meaning "no condition"
+    private static class Filter {
+        final int projectId;
+        final int userId;
+        final int status;
+        final boolean openOnly;
+        final int minPriority;
+        final int maxPriority;
+        final int dueFrom;
+        final int dueTo;
+
+        Filter(TaskCriteria criteria) {
+            projectId = criteria.getProjectId() != null ? criteria.getProjectId() : ABSENT;
+            userId = criteria.getUserId() != null ? criteria.getUserId() : ABSENT;
+            status = criteria.getStatus() != null ? criteria.getStatus().getCode() : ABSENT;
+            openOnly = criteria.isOpenOnly();
+            minPriority = criteria.getMinPriority() != null ? criteria.getMinPriority() : Integer.MIN_VALUE;
+            maxPriority = criteria.getMaxPriority() != null ? criteria.getMaxPriority() : Integer.MAX_VALUE;
+            dueFrom = criteria.getDueFrom() != null ? (int) criteria.getDueFrom().toEpochDay() : Integer.MIN_VALUE;
+            dueTo = criteria.getDueTo() != null ? (int) criteria.getDueTo().toEpochDay() : Integer.MAX_VALUE;
+        }
+
+        boolean matches(TaskColumnStore store, int row) {
+            return (projectId == ABSENT || store.projectIds[row] == projectId)
+                    && (userId == ABSENT || store.userIds[row] == userId)
+                    && (status == ABSENT || store.statuses[row] == status)
+                    && (!openOnly || store.statuses[row] != COMPLETED)
+                    && store.priorities[row] >= minPriority && store.priorities[row] <= maxPriority
+                    && store.dueDays[row] >= dueFrom && store.dueDays[row] <= dueTo;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.task.Task_management.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Published by DueDateIndex at the first check after midnight: the open tasks that were due
+// before today but not yet overdue at the previous check, ordered by due date.
+// Listen with @EventListener.
+public record TasksOverdueEvent(LocalDate today, List<Integer> taskIds) {
+}
@@ -0,0 +1,35 @@
+package com.task.Task_management.bulk;
+
+public class BulkLoadResult {
+    private final String table;
+    private final long rows;
+    private final long elapsedNanos;
+
+    public BulkLoadResult(String table, long rows, long elapsedNanos) {
+        this.table = table;
+        this.rows = rows;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos > 0 ? rows * 1_000_000_000.0 / elapsedNanos : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s | Rows: %d | Time: %d ms | Throughput: %.0f rows/sec",
+                table, rows, getElapsedMillis(), getRowsPerSecond());
+    }
+}
@@ -0,0 +1,375 @@
+package com.task.Task_management.bulk;
+
+import com.task.Task_management.model.Project;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+import com.task.Task_management.model.User;
+import com.task.Task_management.model.UserRole;
+import com.task.Task_management.service.ProjectService;
+import com.task.Task_management.service.TaskService;
+import com.task.Task_management.service.UserService;
+import com.task.Task_management.sync.ChangeNotification.Entity;
+import com.task.Task_management.sync.ChangeNotification.Op;
+import com.task.Task_management.sync.ChangePublisher;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Streams tasks, users and projects in and out of PostgreSQL with COPY.
+// Rows are validated and encoded one at a time, so memory use does not depend on input size.
+@Component
+public class BulkLoader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ChangePublisher changes;
+
+    private final BulkTable<Task> taskTable = new BulkTable<>("tasks",
+            new String[] { "name", "description", "status", "priority", "dueDate", "projectId", "userId" },
+            BulkLoader::parseTask, BulkLoader::formatTask, task -> taskService.validateTask(task));
+
+    private final BulkTable<User> userTable = new BulkTable<>("users",
+            new String[] { "username", "email", "role" },
+            BulkLoader::parseUser, BulkLoader::formatUser, user -> userService.validateUser(user));
+
+    private final BulkTable<Project> projectTable = new BulkTable<>("projects",
+            new String[] { "name", "description", "startDate", "endDate" },
+            BulkLoader::parseProject, BulkLoader::formatProject, project -> projectService.validateProject(project));
+
+    // COPY bypasses the services and DAOs, so after each load task_counters is recounted, the
+    // in-memory structures of the entity are dropped here and a reset is announced to the other nodes
+    public BulkLoadResult loadTasks(Iterator<Task> tasks) {
+        BulkLoadResult result = load(taskTable, tasks);
+        tasksLoaded();
+        return result;
+    }
+
+    // The first CSV record must be a header naming the columns, an "id" column is ignored
+    public BulkLoadResult loadTasksFromCsv(Reader csv) {
+        BulkLoadResult result = load(taskTable, readTasksCsv(csv));
+        tasksLoaded();
+        return result;
+    }
+
+    // Lazily parsed tasks of a CSV with a header record
+    Iterator<Task> readTasksCsv(Reader csv) {
+        return new CsvIterator<>(taskTable, csv);
+    }
+
+    public BulkLoadResult exportTasks(Writer csv) {
+        return export(taskTable, csv);
+    }
+
+    public BulkLoadResult loadUsers(Iterator<User> users) {
+        BulkLoadResult result = load(userTable, users);
+        usersLoaded();
+        return result;
+    }
+
+    public BulkLoadResult loadUsersFromCsv(Reader csv) {
+        BulkLoadResult result = load(userTable, new CsvIterator<>(userTable, csv));
+        usersLoaded();
+        return result;
+    }
+
+    public BulkLoadResult exportUsers(Writer csv) {
+        return export(userTable, csv);
+    }
+
+    public BulkLoadResult loadProjects(Iterator<Project> projects) {
+        BulkLoadResult result = load(projectTable, projects);
+        projectsLoaded();
+        return result;
+    }
+
+    public BulkLoadResult loadProjectsFromCsv(Reader csv) {
+        BulkLoadResult result = load(projectTable, new CsvIterator<>(projectTable, csv));
+        projectsLoaded();
+        return result;
+    }
+
+    private void tasksLoaded() {
+        taskService.rebuildTaskCounters();
+        taskService.refreshTasks(null);
+        changes.published(Entity.TASK, Op.RESET, List.of());
+    }
+
+    private void usersLoaded() {
+        userService.refreshUsers(null);
+        changes.published(Entity.USER, Op.RESET, List.of());
+    }
+
+    private void projectsLoaded() {
+        projectService.refreshProjects(null);
+        changes.published(Entity.PROJECT, Op.RESET, List.of());
+    }
+
+    public BulkLoadResult exportProjects(Writer csv) {
+        return export(projectTable, csv);
+    }
+
+    private <T> BulkLoadResult load(BulkTable<T> table, Iterator<T> items) {
+        long start = System.nanoTime();
+
+        Long rows = jdbc.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = copyManager(connection).copyIn(table.copyInSql());
+            try {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int position = 0;
+                String[] values = new String[table.columns.length];
+                StringBuilder line = new StringBuilder(256);
+                long row = 0;
+
+                while (items.hasNext()) {
+                    T item = items.next();
+                    row++;
+                    try {
+                        table.validator.accept(item);
+                    } catch (RuntimeException e) {
+                        throw new IllegalArgumentException("Invalid " + table.name + " row " + row + ": " + e.getMessage(), e);
+                    }
+
+                    table.formatter.accept(item, values);
+                    line.setLength(0);
+                    appendCsvLine(line, values);
+                    byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+
+                    if (position + bytes.length > buffer.length) {
+                        copyIn.writeToCopy(buffer, 0, position);
+                        position = 0;
+                    }
+                    if (bytes.length > buffer.length) {
+                        copyIn.writeToCopy(bytes, 0, bytes.length);
+                    } else {
+                        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+                        position += bytes.length;
+                    }
+                }
+
+                if (position > 0) {
+                    copyIn.writeToCopy(buffer, 0, position);
+                }
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+
+        return new BulkLoadResult(table.name, rows, System.nanoTime() - start);
+    }
+
+    private <T> BulkLoadResult export(BulkTable<T> table, Writer csv) {
+        long start = System.nanoTime();
+
+        Long rows = jdbc.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return copyManager(connection).copyOut(table.copyOutSql(), csv);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return new BulkLoadResult(table.name, rows, System.nanoTime() - start);
+    }
+
+    private static CopyManager copyManager(Connection connection) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    // Null becomes an unquoted empty field, which COPY reads as NULL
+    static void appendCsvLine(StringBuilder line, String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                line.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(value);
+            }
+        }
+        line.append('\n');
+    }
+
+    private static Task parseTask(String[] values) {
+        Task task = new Task();
+        task.setName(values[0]);
+        task.setDescription(values[1]);
+        task.setStatus(parseStatus(values[2]));
+        task.setPriority(Integer.parseInt(values[3]));
+        task.setDueDate(parseDate(values[4]));
+        task.setProjectId(Integer.parseInt(values[5]));
+        task.setUserId(Integer.parseInt(values[6]));
+        return task;
+    }
+
+    private static void formatTask(Task task, String[] values) {
+        values[0] = task.getName();
+        values[1] = task.getDescription();
+        values[2] = Short.toString(task.getStatus().getCode());
+        values[3] = Integer.toString(task.getPriority());
+        values[4] = task.getDueDate().toString();
+        values[5] = Integer.toString(task.getProjectId());
+        values[6] = Integer.toString(task.getUserId());
+    }
+
+    private static User parseUser(String[] values) {
+        return new User(values[0], values[1], parseRole(values[2]));
+    }
+
+    private static void formatUser(User user, String[] values) {
+        values[0] = user.getUsername();
+        values[1] = user.getEmail();
+        values[2] = Short.toString(user.getRole().getCode());
+    }
+
+    private static Project parseProject(String[] values) {
+        return new Project(values[0], values[1], parseDate(values[2]), parseDate(values[3]));
+    }
+
+    private static void formatProject(Project project, String[] values) {
+        values[0] = project.getName();
+        values[1] = project.getDescription();
+        values[2] = project.getStartDate().toString();
+        values[3] = project.getEndDate() != null ? project.getEndDate().toString() : null;
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value != null ? LocalDate.parse(value) : null;
+    }
+
+    // CSV files may carry either the name or the stored code, so exports load back unchanged
+    private static TaskStatus parseStatus(String value) {
+        if (isCode(value)) {
+            return TaskStatus.fromCode(Integer.parseInt(value));
+        }
+        TaskStatus status = TaskStatus.fromName(value);
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown task status: " + value);
+        }
+        return status;
+    }
+
+    private static UserRole parseRole(String value) {
+        if (isCode(value)) {
+            return UserRole.fromCode(Integer.parseInt(value));
+        }
+        UserRole role = UserRole.fromName(value);
+        if (role == null) {
+            throw new IllegalArgumentException("Unknown user role: " + value);
+        }
+        return role;
+    }
+
+    private static boolean isCode(String value) {
+        return value != null && !value.isEmpty() && value.chars().allMatch(Character::isDigit);
+    }
+
+    // Lazily parses CSV records into entities, using the header to locate each column
+    private static class CsvIterator<T> implements Iterator<T> {
+        private final BulkTable<T> table;
+        private final CsvRecordReader reader;
+        private final int[] columnIndexes;
+        private final String[] values;
+        private List<String> nextRecord;
+        private long recordNumber;
+
+        CsvIterator(BulkTable<T> table, Reader csv) {
+            this.table = table;
+            this.reader = new CsvRecordReader(csv);
+            this.columnIndexes = new int[table.columns.length];
+            this.values = new String[table.columns.length];
+
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV input for " + table.name + " is empty");
+            }
+            for (int i = 0; i < table.columns.length; i++) {
+                columnIndexes[i] = indexOfIgnoreCase(header, table.columns[i]);
+                if (columnIndexes[i] < 0) {
+                    throw new IllegalArgumentException("CSV header for " + table.name + " is missing column: " + table.columns[i]);
+                }
+            }
+            nextRecord = readRecord();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRecord != null;
+        }
+
+        @Override
+        public T next() {
+            if (nextRecord == null) {
+                throw new NoSuchElementException();
+            }
+            List<String> record = nextRecord;
+            long number = recordNumber;
+            nextRecord = readRecord();
+
+            try {
+                for (int i = 0; i < columnIndexes.length; i++) {
+                    values[i] = columnIndexes[i] < record.size() ? record.get(columnIndexes[i]) : null;
+                }
+                return table.parser.apply(values);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Malformed " + table.name + " CSV record " + number + ": " + e.getMessage(), e);
+            }
+        }
+
+        private List<String> readRecord() {
+            try {
+                List<String> record = reader.next();
+                recordNumber++;
+                return record;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static int indexOfIgnoreCase(List<String> header, String column) {
+            for (int i = 0; i < header.size(); i++) {
+                if (column.equalsIgnoreCase(header.get(i) != null ? header.get(i).trim() : null)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
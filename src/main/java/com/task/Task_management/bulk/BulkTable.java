@@ -0,0 +1,33 @@
+package com.task.Task_management.bulk;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Describes how one entity type maps onto the columns used by COPY
+class BulkTable<T> {
+
+    final String name;
+    final String[] columns;
+    final Function<String[], T> parser;
+    final BiConsumer<T, String[]> formatter;
+    final Consumer<T> validator;
+
+    BulkTable(String name, String[] columns, Function<String[], T> parser,
+              BiConsumer<T, String[]> formatter, Consumer<T> validator) {
+        this.name = name;
+        this.columns = columns;
+        this.parser = parser;
+        this.formatter = formatter;
+        this.validator = validator;
+    }
+
+    String copyInSql() {
+        return "copy " + name + " (" + String.join(", ", columns) + ") from stdin with (format csv)";
+    }
+
+    String copyOutSql() {
+        return "copy (select id, " + String.join(", ", columns) + " from " + name
+                + " order by id) to stdout with (format csv, header)";
+    }
+}
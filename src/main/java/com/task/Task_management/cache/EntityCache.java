@@ -0,0 +1,237 @@
+package com.task.Task_management.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
+// Bounded read-through cache keyed by entity id, with LRU size eviction and a time-to-live.
+// Callers always get their own copy, so changing a returned entity never changes the cached one.
+// A transaction that wrote rows of the entity (markWritten) bypasses the cache until it completes,
+// so neither its uncommitted rows nor rows it cannot see as committed end up cached.
+public class EntityCache<V> {
+
+    private final String name;
+    private final UnaryOperator<V> copier;
+    private final LinkedHashMap<Integer, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private volatile boolean enabled = true;
+    private volatile int maxSize = 10_000;
+    private volatile long ttlNanos = TimeUnit.MINUTES.toNanos(5);
+
+    // Bumped by every invalidation so a load that raced with a write is not cached
+    private long invalidationCount;
+
+    public EntityCache(String name, UnaryOperator<V> copier) {
+        this.name = name;
+        this.copier = copier;
+    }
+
+    // Returns the cached entity or loads it; null results are not cached
+    public V get(int id, IntFunction<V> loader) {
+        if (bypassed()) {
+            return loader.apply(id);
+        }
+
+        long invalidationsBeforeLoad;
+        synchronized (this) {
+            Entry<V> entry = entries.get(id);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAt < ttlNanos) {
+                    hits.increment();
+                    return copier.apply(entry.value);
+                }
+                entries.remove(id);
+                evictions.increment();
+            }
+            invalidationsBeforeLoad = invalidationCount;
+        }
+
+        misses.increment();
+        V value = loader.apply(id);
+        if (value != null) {
+            put(id, value, invalidationsBeforeLoad);
+        }
+        return value;
+    }
+
+    // Cached entities for the ids, loading all misses with one loader call; ids that
+    // neither the cache nor the loader know are absent from the result
+    public Map<Integer, V> getAll(Collection<Integer> ids, Function<Set<Integer>, Map<Integer, V>> loader) {
+        if (bypassed()) {
+            return loader.apply(new LinkedHashSet<>(ids));
+        }
+
+        Map<Integer, V> found = new HashMap<>();
+        Set<Integer> missing = new LinkedHashSet<>();
+        long invalidationsBeforeLoad;
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (Integer id : ids) {
+                if (found.containsKey(id) || missing.contains(id)) {
+                    continue;
+                }
+                Entry<V> entry = entries.get(id);
+                if (entry != null && now - entry.loadedAt < ttlNanos) {
+                    hits.increment();
+                    found.put(id, copier.apply(entry.value));
+                } else {
+                    if (entry != null) {
+                        entries.remove(id);
+                        evictions.increment();
+                    }
+                    missing.add(id);
+                }
+            }
+            invalidationsBeforeLoad = invalidationCount;
+        }
+
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            for (Map.Entry<Integer, V> loaded : loader.apply(missing).entrySet()) {
+                put(loaded.getKey(), loaded.getValue(), invalidationsBeforeLoad);
+                found.put(loaded.getKey(), loaded.getValue());
+            }
+        }
+        return found;
+    }
+
+    // Cached entry without loading, or null when absent or expired
+    public V getIfPresent(int id) {
+        if (bypassed()) {
+            return null;
+        }
+        synchronized (this) {
+            Entry<V> entry = entries.get(id);
+            if (entry == null || System.nanoTime() - entry.loadedAt >= ttlNanos) {
+                return null;
+            }
+            hits.increment();
+            return copier.apply(entry.value);
+        }
+    }
+
+    public synchronized void invalidate(int id) {
+        invalidationCount++;
+        entries.remove(id);
+    }
+
+    public synchronized void clear() {
+        invalidationCount++;
+        entries.clear();
+    }
+
+    // Called by a write of the entity: inside a transaction, reads on this thread skip the cache
+    // until the transaction completes
+    public void markWritten() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EntityCache.this);
+                }
+            });
+        }
+    }
+
+    private boolean bypassed() {
+        return !enabled || TransactionSynchronizationManager.hasResource(this);
+    }
+
+    private synchronized void put(int id, V value, long invalidationsBeforeLoad) {
+        if (invalidationCount != invalidationsBeforeLoad) {
+            return;
+        }
+        entries.put(id, new Entry<>(copier.apply(value), System.nanoTime()));
+        Iterator<Map.Entry<Integer, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    public void setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    public void setTtlSeconds(long ttlSeconds) {
+        if (ttlSeconds <= 0) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total > 0 ? hitCount * 100.0 / total : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s cache | Enabled: %s | Size: %d | Hits: %d | Misses: %d | Evictions: %d | Hit ratio: %.1f%%",
+                name, enabled, size(), getHits(), getMisses(), getEvictions(), getHitRatio());
+    }
+
+    private static class Entry<V> {
+        final V value;
+        final long loadedAt;
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
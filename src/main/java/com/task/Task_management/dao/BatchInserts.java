@@ -0,0 +1,55 @@
+package com.task.Task_management.dao;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+// Shared chunked JDBC batch insert used by the DAO saveAll methods
+final class BatchInserts {
+
+    private BatchInserts() {
+    }
+
+    // Runs the insert in chunks of batchSize and returns the generated ids in input order
+    static <T> int[] insertAll(JdbcTemplate jdbc, String sql, List<T> items, int batchSize,
+                               ParameterizedPreparedStatementSetter<T> setter) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+
+        int[] ids = new int[items.size()];
+        for (int from = 0; from < items.size(); from += batchSize) {
+            List<T> chunk = items.subList(from, Math.min(from + batchSize, items.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbc.batchUpdate(connection -> connection.prepareStatement(sql, new String[] { "id" }),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            setter.setValues(ps, chunk.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    }, keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            if (keys.size() != chunk.size()) {
+                throw new IllegalStateException("Expected " + chunk.size() + " generated ids but got " + keys.size());
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                ids[from + i] = ((Number) keys.get(i).get("id")).intValue();
+            }
+        }
+        return ids;
+    }
+}
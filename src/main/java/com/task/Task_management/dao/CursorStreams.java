@@ -0,0 +1,134 @@
+package com.task.Task_management.dao;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Streams query results through a server-side cursor. PostgreSQL only uses a cursor when
+// autocommit is off and a fetch size is set. Inside a transaction the stream joins its
+// connection (no second pool connection, and it sees the transaction's own writes); otherwise
+// it runs in a read-only transaction of its own. The connection is released when the stream is closed.
+final class CursorStreams {
+
+    private CursorStreams() {
+    }
+
+    static <T> Stream<T> stream(JdbcTemplate jdbc, int fetchSize, String sql, RowMapper<T> mapper, Object... params) {
+        DataSource dataSource = jdbc.getDataSource();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        boolean ownTransaction = false;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            // A bound connection in autocommit mode (synchronization without a transaction) gets
+            // a transaction of its own for the cursor as well
+            if (connection.getAutoCommit()) {
+                connection.setAutoCommit(false);
+                ownTransaction = true;
+                if (!DataSourceUtils.isConnectionTransactional(connection, dataSource)) {
+                    connection.setReadOnly(true);
+                }
+            }
+
+            ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            new ArgumentPreparedStatementSetter(params).setValues(ps);
+            rs = ps.executeQuery();
+        } catch (SQLException e) {
+            close(dataSource, connection, ownTransaction, ps, rs);
+            throw jdbc.getExceptionTranslator().translate("Opening cursor", sql, e);
+        }
+
+        CursorSpliterator<T> spliterator = new CursorSpliterator<>(jdbc, sql, mapper, connection, ownTransaction, ps, rs);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    private static void close(DataSource dataSource, Connection connection, boolean ownTransaction,
+                              PreparedStatement ps, ResultSet rs) {
+        try {
+            if (rs != null) {
+                rs.close();
+            }
+            if (ps != null) {
+                ps.close();
+            }
+        } catch (SQLException ignored) {
+            // the connection is released below either way
+        }
+        if (ownTransaction) {
+            try {
+                connection.rollback();
+                if (connection.isReadOnly()) {
+                    connection.setReadOnly(false);
+                }
+                connection.setAutoCommit(true);
+            } catch (SQLException ignored) {
+                // the pool validates connections before handing them out again
+            }
+        }
+        // Closes a connection of our own, leaves a transaction's connection to the transaction
+        DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+
+    private static class CursorSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final JdbcTemplate jdbc;
+        private final String sql;
+        private final RowMapper<T> mapper;
+        private final Connection connection;
+        private final boolean ownTransaction;
+        private final PreparedStatement ps;
+        private final ResultSet rs;
+        private int rowNum;
+        private boolean closed;
+
+        CursorSpliterator(JdbcTemplate jdbc, String sql, RowMapper<T> mapper,
+                          Connection connection, boolean ownTransaction, PreparedStatement ps, ResultSet rs) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.jdbc = jdbc;
+            this.sql = sql;
+            this.mapper = mapper;
+            this.connection = connection;
+            this.ownTransaction = ownTransaction;
+            this.ps = ps;
+            this.rs = rs;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(mapper.mapRow(rs, rowNum++));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw jdbc.getExceptionTranslator().translate("Reading cursor", sql, e);
+            }
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                CursorStreams.close(jdbc.getDataSource(), connection, ownTransaction, ps, rs);
+            }
+        }
+    }
+}
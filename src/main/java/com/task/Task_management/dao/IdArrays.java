@@ -0,0 +1,31 @@
+package com.task.Task_management.dao;
+
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+
+// Builds statements that pass id collections as a single integer[] parameter (= any(?)),
+// so one statement and one plan serve any number of ids
+final class IdArrays {
+
+    private IdArrays() {
+    }
+
+    // Collection parameters are bound as integer arrays, everything else as usual
+    static PreparedStatementCreator statement(String sql, Object... params) {
+        return connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            for (int i = 0; i < params.length; i++) {
+                if (params[i] instanceof Collection<?> ids) {
+                    ps.setArray(i + 1, connection.createArrayOf("integer", ids.toArray()));
+                } else {
+                    StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, params[i]);
+                }
+            }
+            return ps;
+        };
+    }
+}
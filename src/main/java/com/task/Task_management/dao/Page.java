@@ -0,0 +1,27 @@
+package com.task.Task_management.dao;
+
+import java.util.List;
+
+// One page of a keyset-paginated query. Pass nextPageToken back to fetch the following page.
+public class Page<T> {
+    private final List<T> items;
+    private final String nextPageToken;
+
+    public Page(List<T> items, String nextPageToken) {
+        this.items = items;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    // Null on the last page
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public boolean hasNext() {
+        return nextPageToken != null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.task.Task_management.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque continuation token holding the sort order and the sort key of the last row returned
+final class PageToken {
+
+    private static final String SEPARATOR = "|";
+
+    private PageToken() {
+    }
+
+    static String encode(String sort, Object... lastKey) {
+        StringBuilder token = new StringBuilder(sort);
+        for (Object value : lastKey) {
+            token.append(SEPARATOR).append(value);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns the key values of the token, checking it was issued for the same sort order
+    static String[] decode(String token, String sort, int keyLength) {
+        String[] parts;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = decoded.split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page token");
+        }
+        if (parts.length != keyLength + 1 || !parts[0].equals(sort)) {
+            throw new IllegalArgumentException("Page token does not match the requested ordering");
+        }
+
+        String[] key = new String[keyLength];
+        System.arraycopy(parts, 1, key, 0, keyLength);
+        return key;
+    }
+
+    static int parseId(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page token");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.task.Task_management.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Shared update-by-id used by the DAO update methods. Only the given (changed) columns
+// are written; inside a UnitOfWork the update is queued for its batch instead.
+final class PartialUpdates {
+
+    private PartialUpdates() {
+    }
+
+    // afterWrite runs once the row is written: now, or after the unit of work commits.
+    // False only when the statement ran and no row has the id.
+    static boolean update(JdbcTemplate jdbc, String table, int id, Map<String, Object> columns, Runnable afterWrite) {
+        if (columns.isEmpty()) {
+            return true;
+        }
+
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork != null) {
+            unitOfWork.add(table, id, columns, afterWrite);
+            return true;
+        }
+
+        List<Object> params = new ArrayList<>(columns.values());
+        params.add(id);
+        int rows = jdbc.update(sql(table, columns.keySet()), params.toArray());
+        afterWrite.run();
+        return rows > 0;
+    }
+
+    static String sql(String table, Collection<String> columns) {
+        StringBuilder sql = new StringBuilder("update ").append(table).append(" set ");
+        for (String column : columns) {
+            if (sql.charAt(sql.length() - 1) == '?') {
+                sql.append(", ");
+            }
+            sql.append(column).append(" = ?");
+        }
+        return sql.append(" where id = ?").toString();
+    }
+}
@@ -1,8 +1,13 @@
 package com.task.Task_management.dao;
 
+import com.task.Task_management.cache.EntityCache;
 import com.task.Task_management.mapper.ProjectRowMapper;
 import com.task.Task_management.model.Project;
+import com.task.Task_management.sync.ChangeNotification.Entity;
+import com.task.Task_management.sync.ChangeNotification.Op;
+import com.task.Task_management.sync.ChangePublisher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -10,8 +15,18 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public class ProjectDAO {
@@ -21,13 +36,77 @@ public class ProjectDAO {
 
     private ProjectRowMapper mapper = new ProjectRowMapper();
 
+    @Value("${jdbc.batch.size:500}")
+    private int batchSize;
+
+    @Value("${jdbc.stream.fetch-size:1000}")
+    private int fetchSize;
+
+    private final EntityCache<Project> cache = new EntityCache<>("projects", Project::new);
+
+    // Announces every write to the other nodes
+    @Autowired
+    private ChangePublisher changes;
+
+    private static final String SELECT_SQL = "select " + ProjectRowMapper.COLUMNS + " from projects";
+    private static final String INSERT_SQL = "insert into projects (name, description, startDate, endDate) values(?, ?, ?, ?)";
+
     public List<Project> findAll() {
-        String sql = "select * from projects";
+        String sql = SELECT_SQL;
         return jdbc.query(sql, mapper);
     }
 
+    // Streams rows through a server-side cursor; close the stream (try-with-resources) to release the connection
+    public Stream<Project> streamAll() {
+        String sql = SELECT_SQL + " order by id";
+        return CursorStreams.stream(jdbc, fetchSize, sql, mapper);
+    }
+
+    // Keyset pagination by id: pass null for the first page, then the token from the previous page
+    public Page<Project> findPage(String pageToken, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        int afterId = 0;
+        if (pageToken != null) {
+            afterId = PageToken.parseId(PageToken.decode(pageToken, "ID", 1)[0]);
+        }
+
+        String sql = SELECT_SQL + " where id > ? order by id limit ?";
+        List<Project> rows = jdbc.query(sql, mapper, afterId, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+
+        List<Project> page = new ArrayList<>(rows.subList(0, pageSize));
+        return new Page<>(page, PageToken.encode("ID", page.get(pageSize - 1).getId()));
+    }
+
+    // Served from the entity cache when possible, see cache.entity.* properties
     public Project findById(int id) {
-        String sql = "select * from projects where id = ?";
+        return cache.get(id, this::loadById);
+    }
+
+    // One query for all ids (= any(?)), cached entities are not re-read; missing ids are absent from the result
+    public Map<Integer, Project> findByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return cache.getAll(ids, this::loadByIds);
+    }
+
+    private Map<Integer, Project> loadByIds(Set<Integer> ids) {
+        String sql = SELECT_SQL + " where id = any(?)";
+        Map<Integer, Project> projects = new HashMap<>();
+        for (Project project : jdbc.query(IdArrays.statement(sql, ids), mapper)) {
+            projects.put(project.getId(), project);
+        }
+        return projects;
+    }
+
+    private Project loadById(int id) {
+        String sql = SELECT_SQL + " where id = ?";
         List<Project> projects = jdbc.query(sql, mapper, id);
         if (projects.isEmpty()) {
             return null;
@@ -36,45 +115,139 @@ public class ProjectDAO {
         }
     }
 
+    // Always asks the database: existence checks guard writes, and a cached row may belong to a
+    // project deleted by a transaction that has not finished invalidating yet
+    public boolean existsById(int id) {
+        String sql = "select exists(select 1 from projects where id = ?)";
+        return Boolean.TRUE.equals(jdbc.queryForObject(sql, Boolean.class, id));
+    }
+
+    // The subset of ids that exist, checked with one query
+    public Set<Integer> existingIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        String sql = "select id from projects where id = any(?)";
+        return new HashSet<>(jdbc.query(IdArrays.statement(sql, ids), (rs, rowNum) -> rs.getInt(1)));
+    }
+
     public int save(Project project) {
-        String sql = "insert into projects (name, description, startDate, endDate) values(?, ?, ?, ?)";
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbc.update(connection -> {
-            PreparedStatement ps = connection.prepareStatement(sql, new String[] { "id" });
-            ps.setString(1, project.getName());
-            ps.setString(2, project.getDescription());
-            ps.setDate(3, Date.valueOf(project.getStartDate()));
-            ps.setDate(4, Date.valueOf(project.getEndDate()));
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[] { "id" });
+            setInsertParameters(ps, project);
             return ps;
         }, keyHolder);
 
-        return keyHolder.getKey().intValue();
+        int id = keyHolder.getKey().intValue();
+        cache.markWritten();
+        changes.published(Entity.PROJECT, Op.INSERT, id);
+        return id;
+    }
+
+    // Inserts all projects with JDBC batching and returns the generated ids in input order
+    public int[] saveAll(List<Project> projects) {
+        int[] ids = BatchInserts.insertAll(jdbc, INSERT_SQL, projects, batchSize, this::setInsertParameters);
+        cache.markWritten();
+        changes.published(Entity.PROJECT, Op.INSERT, Arrays.stream(ids).boxed().toList());
+        return ids;
     }
 
-    public void update(Project project) {
-        String sql = "update projects set name=?, description=?, startDate=?, endDate=? where id=?";
-        jdbc.update(sql, project.getName(), project.getDescription(), project.getStartDate(), project.getEndDate(),
-                project.getId());
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    // Writes only the columns changed since the project was loaded (all of them for an untracked project);
+    // false when no row has the id
+    public boolean update(Project project) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        for (Project.Field field : project.getChangedFields()) {
+            switch (field) {
+                case NAME -> columns.put("name", project.getName());
+                case DESCRIPTION -> columns.put("description", project.getDescription());
+                case START_DATE -> columns.put("startDate", project.getStartDate());
+                case END_DATE -> columns.put("endDate", project.getEndDate());
+            }
+        }
+        int id = project.getId();
+        invalidate(id);
+        boolean updated = PartialUpdates.update(jdbc, "projects", id, columns, () -> invalidate(id));
+        if (updated && !columns.isEmpty()) {
+            changes.published(Entity.PROJECT, Op.UPDATE, id);
+        }
+        project.markClean();
+        return updated;
     }
 
     public void deleteById(int id) {
-        String sql = "select * from projects where id=?";
-        jdbc.update(sql, id);
+        String sql = "delete from projects where id=?";
+        if (jdbc.update(sql, id) > 0) {
+            changes.published(Entity.PROJECT, Op.DELETE, id);
+        }
+        invalidate(id);
+    }
+
+    // Drops the cached row now and again once the write commits: a read between the two
+    // could otherwise cache the old row for the whole TTL
+    private void invalidate(int id) {
+        cache.invalidate(id);
+        cache.markWritten();
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(id));
     }
 
     public List<Project> findActiveProjects() {
-        String sql = "select * from projects where endDate is null";
+        String sql = SELECT_SQL + " where endDate is null";
         return jdbc.query(sql, mapper);
     }
 
     public List<Project> findProjectsByDateRange(LocalDate startDate, LocalDate endDate) {
-        String sql = "select * from projects where startDate>=? and (endDate<= or endDate is null)?";
+        String sql = SELECT_SQL + " where startDate>=? and (endDate<=? or endDate is null)";
         return jdbc.query(sql, mapper, Date.valueOf(startDate), Date.valueOf(endDate));
     }
 
+    // Case-insensitive substring search ranked by similarity; needs the pg_trgm index from migration V1
+    public List<Project> searchByName(String namePattern, int limit) {
+        String escaped = namePattern.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        String sql = SELECT_SQL + " where name ilike ? order by similarity(name, ?) desc, id";
+        if (limit > 0) {
+            return jdbc.query(sql + " limit ?", mapper, "%" + escaped + "%", namePattern, limit);
+        }
+        return jdbc.query(sql, mapper, "%" + escaped + "%", namePattern);
+    }
+
     public int countProjects() {
         String sql = "select count(*) from projects";
         return jdbc.queryForObject(sql, Integer.class);
     }
+
+    public EntityCache<Project> getCache() {
+        return cache;
+    }
+
+    @Value("${cache.entity.enabled:true}")
+    public void setCacheEnabled(boolean enabled) {
+        cache.setEnabled(enabled);
+    }
+
+    @Value("${cache.entity.max-size:10000}")
+    public void setCacheMaxSize(int maxSize) {
+        cache.setMaxSize(maxSize);
+    }
+
+    @Value("${cache.entity.ttl-seconds:300}")
+    public void setCacheTtlSeconds(long ttlSeconds) {
+        cache.setTtlSeconds(ttlSeconds);
+    }
+
+    private void setInsertParameters(PreparedStatement ps, Project project) throws SQLException {
+        ps.setString(1, project.getName());
+        ps.setString(2, project.getDescription());
+        ps.setDate(3, Date.valueOf(project.getStartDate()));
+        ps.setDate(4, project.getEndDate() != null ? Date.valueOf(project.getEndDate()) : null); // null while active
+    }
 }
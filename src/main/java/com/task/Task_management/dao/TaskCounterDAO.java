@@ -0,0 +1,161 @@
+package com.task.Task_management.dao;
+
+import com.task.Task_management.mapper.TaskCountsRowMapper;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskCounts;
+import com.task.Task_management.model.TaskStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// The task_counters summary table: task counts per (project or user, status). Writers add
+// their deltas in their own transaction (a UnitOfWork's at its commit), so the counters commit
+// or roll back with the rows.
+@Repository
+public class TaskCounterDAO {
+
+    public enum Scope {
+        PROJECT("projectId"),
+        USER("userId");
+
+        private final String column;
+
+        Scope(String column) {
+            this.column = column;
+        }
+
+        public short getCode() {
+            return (short) ordinal();
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private TaskCountsRowMapper countsMapper = new TaskCountsRowMapper();
+
+    // Counters recomputed from tasks, in task_counters layout
+    private static final String RECOUNT_SQL =
+            "select 0::smallint as scope, projectId as id, status, count(*) as task_count from tasks group by projectId, status "
+            + "union all "
+            + "select 1::smallint, userId, status, count(*) from tasks group by userId, status";
+
+    // Status counts from the counters, one primary key range read; overdue is left at 0, see countOverdue
+    public TaskCounts counts(Scope scope, int id) {
+        String sql = "select coalesce(sum(task_count), 0) as total, "
+                + "coalesce(sum(task_count) filter (where status = " + TaskStatus.TODO.getCode() + "), 0) as todo, "
+                + "coalesce(sum(task_count) filter (where status = " + TaskStatus.IN_PROGRESS.getCode() + "), 0) as inProgress, "
+                + "coalesce(sum(task_count) filter (where status = " + TaskStatus.COMPLETED.getCode() + "), 0) as completed, "
+                + "coalesce(sum(task_count) filter (where status = " + TaskStatus.BLOCKED.getCode() + "), 0) as blocked, "
+                + "0 as overdue "
+                + "from task_counters where scope = ? and id = ?";
+        return jdbc.queryForObject(sql, countsMapper, scope.getCode(), id);
+    }
+
+    // Overdue depends on today's date, so it is not a counter: it is counted from the open tasks
+    // of the project or user due before today, through the partial indexes of migration V3
+    public long countOverdue(Scope scope, int id, LocalDate today) {
+        String sql = "select count(*) from tasks where " + scope.column + " = ? and dueDate < ? and status <> "
+                + TaskStatus.COMPLETED.getCode();
+        Long overdue = jdbc.queryForObject(sql, Long.class, id, Date.valueOf(today));
+        return overdue != null ? overdue : 0;
+    }
+
+    // Writes the non-zero deltas as one batch of upserts, in (scope, id, status) order: every
+    // writer then locks the counter rows in the same order, so two transactions touching the
+    // same counters wait for each other instead of deadlocking. Inside a UnitOfWork the deltas
+    // are merged into its own and written when it commits, together with its updates.
+    public void apply(Deltas deltas) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork != null) {
+            unitOfWork.addCounterDeltas(this, deltas);
+            return;
+        }
+        List<Object[]> params = deltas.rows();
+        if (params.isEmpty()) {
+            return;
+        }
+        String sql = "insert into task_counters (scope, id, status, task_count) values (?, ?, ?, ?) "
+                + "on conflict (scope, id, status) do update set task_count = task_counters.task_count + excluded.task_count";
+        jdbc.batchUpdate(sql, params);
+    }
+
+    // Number of (scope, id, status) counters that differ from a recount of tasks
+    public int countDrift() {
+        String sql = "select count(*) from (" + RECOUNT_SQL + ") actual "
+                + "full join task_counters c using (scope, id, status) "
+                + "where coalesce(actual.task_count, 0) <> coalesce(c.task_count, 0)";
+        Integer drift = jdbc.queryForObject(sql, Integer.class);
+        return drift != null ? drift : 0;
+    }
+
+    // Replaces all counters with a recount; tasks is locked against writes until the caller's
+    // transaction ends, so no delta is lost in between
+    public int rebuild() {
+        jdbc.execute("lock table tasks in share mode");
+        jdbc.update("delete from task_counters");
+        return jdbc.update("insert into task_counters (scope, id, status, task_count) " + RECOUNT_SQL);
+    }
+
+    private record Key(Scope scope, int id, TaskStatus status) implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator.<Key>comparingInt(key -> key.scope().getCode())
+                .thenComparingInt(Key::id)
+                .thenComparingInt(key -> key.status().getCode());
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    // Net counter changes of one write; a task that only moves within the same counter nets to nothing
+    public static class Deltas {
+
+        // Sorted by key, the order apply locks the counters in
+        private final Map<Key, Long> deltas = new TreeMap<>();
+
+        public Deltas add(Task task) {
+            return add(task.getProjectId(), task.getUserId(), task.getStatus(), 1);
+        }
+
+        public Deltas remove(Task task) {
+            return add(task.getProjectId(), task.getUserId(), task.getStatus(), -1);
+        }
+
+        public Deltas add(int projectId, int userId, TaskStatus status, long delta) {
+            deltas.merge(new Key(Scope.PROJECT, projectId, status), delta, Long::sum);
+            deltas.merge(new Key(Scope.USER, userId, status), delta, Long::sum);
+            return this;
+        }
+
+        Deltas addAll(Deltas other) {
+            other.deltas.forEach((key, delta) -> deltas.merge(key, delta, Long::sum));
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return deltas.values().stream().allMatch(delta -> delta == 0);
+        }
+
+        // Upsert parameters (scope, id, status, delta) of the non-zero deltas, in key order
+        List<Object[]> rows() {
+            List<Object[]> rows = new ArrayList<>();
+            for (Map.Entry<Key, Long> delta : deltas.entrySet()) {
+                if (delta.getValue() != 0) {
+                    Key key = delta.getKey();
+                    rows.add(new Object[] { key.scope().getCode(), key.id(), key.status().getCode(), delta.getValue() });
+                }
+            }
+            return rows;
+        }
+    }
+}
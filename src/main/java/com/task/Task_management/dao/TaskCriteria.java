@@ -0,0 +1,208 @@
+package com.task.Task_management.dao;
+
+import com.task.Task_management.model.TaskStatus;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+// Composable filter for task queries. Every condition that is set becomes
+// part of a single parameterized where clause, so filtering runs in the database.
+public class TaskCriteria {
+
+    // Every ordering ends with id so ties break the same way on every query,
+    // and the keyset condition selects the rows that come after a given sort key.
+    public enum Sort {
+        ID("id", "id > ?"),
+        PRIORITY_DESC("priority desc, id desc", "(priority, id) < (?, ?)"),
+        DUE_DATE("dueDate, id", "(dueDate, id) > (?, ?)");
+
+        private final String orderBy;
+        private final String keysetCondition;
+
+        Sort(String orderBy, String keysetCondition) {
+            this.orderBy = orderBy;
+            this.keysetCondition = keysetCondition;
+        }
+
+        public String getOrderBy() {
+            return orderBy;
+        }
+
+        String getKeysetCondition() {
+            return keysetCondition;
+        }
+    }
+
+    private Integer projectId;
+    private Integer userId;
+    private TaskStatus status;
+    private boolean openOnly;
+    private Integer minPriority;
+    private Integer maxPriority;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+    private Sort sort;
+    private Integer limit;
+
+    public static TaskCriteria all() {
+        return new TaskCriteria();
+    }
+
+    public TaskCriteria projectId(int projectId) {
+        this.projectId = projectId;
+        return this;
+    }
+
+    public TaskCriteria userId(int userId) {
+        this.userId = userId;
+        return this;
+    }
+
+    public TaskCriteria status(TaskStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    // Leaves out completed tasks
+    public TaskCriteria open() {
+        this.openOnly = true;
+        return this;
+    }
+
+    public TaskCriteria priority(int priority) {
+        return priorityBetween(priority, priority);
+    }
+
+    // Both bounds are inclusive
+    public TaskCriteria priorityBetween(int minPriority, int maxPriority) {
+        this.minPriority = minPriority;
+        this.maxPriority = maxPriority;
+        return this;
+    }
+
+    // Both bounds are inclusive, either may be null for an open-ended window
+    public TaskCriteria dueBetween(LocalDate dueFrom, LocalDate dueTo) {
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+        return this;
+    }
+
+    public TaskCriteria dueBefore(LocalDate date) {
+        return dueBetween(null, date.minusDays(1));
+    }
+
+    public TaskCriteria sortBy(Sort sort) {
+        this.sort = sort;
+        return this;
+    }
+
+    public TaskCriteria limit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    public Integer getProjectId() {
+        return projectId;
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public boolean isOpenOnly() {
+        return openOnly;
+    }
+
+    public Integer getMinPriority() {
+        return minPriority;
+    }
+
+    public Integer getMaxPriority() {
+        return maxPriority;
+    }
+
+    public LocalDate getDueFrom() {
+        return dueFrom;
+    }
+
+    public LocalDate getDueTo() {
+        return dueTo;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    void appendWhere(StringBuilder sql, List<Object> params) {
+        appendWhere(sql, params, null);
+    }
+
+    // Appends the criteria conditions plus an optional extra condition and its parameters
+    void appendWhere(StringBuilder sql, List<Object> params, String extraCondition, Object... extraParams) {
+        int start = sql.length();
+        if (projectId != null) {
+            appendCondition(sql, start, "projectId = ?");
+            params.add(projectId);
+        }
+        if (userId != null) {
+            appendCondition(sql, start, "userId = ?");
+            params.add(userId);
+        }
+        if (status != null) {
+            appendCondition(sql, start, "status = ?");
+            params.add(status.getCode());
+        }
+        if (openOnly) {
+            // A literal rather than a parameter, so the planner can use the partial index on open tasks
+            appendCondition(sql, start, "status <> " + TaskStatus.COMPLETED.getCode());
+        }
+        if (minPriority != null) {
+            appendCondition(sql, start, "priority >= ?");
+            params.add(minPriority);
+        }
+        if (maxPriority != null) {
+            appendCondition(sql, start, "priority <= ?");
+            params.add(maxPriority);
+        }
+        if (dueFrom != null) {
+            appendCondition(sql, start, "dueDate >= ?");
+            params.add(Date.valueOf(dueFrom));
+        }
+        if (dueTo != null) {
+            appendCondition(sql, start, "dueDate <= ?");
+            params.add(Date.valueOf(dueTo));
+        }
+        if (extraCondition != null) {
+            appendCondition(sql, start, extraCondition);
+            for (Object param : extraParams) {
+                params.add(param);
+            }
+        }
+    }
+
+    void appendOrderByAndLimit(StringBuilder sql, List<Object> params) {
+        if (sort != null) {
+            sql.append(" order by ").append(sort.getOrderBy());
+        }
+        if (limit != null) {
+            sql.append(" limit ?");
+            params.add(limit);
+        }
+    }
+
+    private static void appendCondition(StringBuilder sql, int start, String condition) {
+        sql.append(sql.length() == start ? " where " : " and ").append(condition);
+    }
+}
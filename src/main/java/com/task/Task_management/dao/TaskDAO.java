@@ -1,8 +1,15 @@
 package com.task.Task_management.dao;
 
+import com.task.Task_management.mapper.TaskCountsRowMapper;
 import com.task.Task_management.mapper.TaskRowMapper;
 import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskCounts;
+import com.task.Task_management.model.TaskStatus;
+import com.task.Task_management.sync.ChangeNotification.Entity;
+import com.task.Task_management.sync.ChangeNotification.Op;
+import com.task.Task_management.sync.ChangePublisher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -10,7 +17,19 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public class TaskDAO {
@@ -18,15 +37,33 @@ public class TaskDAO {
     @Autowired
     private JdbcTemplate jdbc;
 
+    // Announces every write to the other nodes
+    @Autowired
+    private ChangePublisher changes;
+
     private TaskRowMapper mapper = new TaskRowMapper();
+    private TaskCountsRowMapper countsMapper = new TaskCountsRowMapper();
+
+    @Value("${jdbc.batch.size:500}")
+    private int batchSize;
+
+    @Value("${jdbc.stream.fetch-size:1000}")
+    private int fetchSize;
+
+    private static final String SELECT_SQL = "select " + TaskRowMapper.COLUMNS + " from tasks";
+    private static final String RETURNING_SQL = " returning " + TaskRowMapper.COLUMNS;
+    private static final String CLAIM_SQL = "update tasks set status=? where id = (select id from tasks"
+            + " where userId=? and status=? %s order by priority desc, dueDate, id limit 1 for update skip locked)"
+            + RETURNING_SQL;
+    private static final String INSERT_SQL = "insert into tasks (name, description, status, priority, dueDate, projectId, userId) values(?, ?, ?, ?, ?, ?, ?)";
 
     public List<Task> findAll() {
-        String sql = "select * from tasks";
+        String sql = SELECT_SQL;
         return jdbc.query(sql, mapper);
     }
 
     public Task findById(int id) {
-        String sql = "select * from tasks where id=?";
+        String sql = SELECT_SQL + " where id=?";
         List<Task> tasks = jdbc.query(sql, mapper, id);
         if (tasks.isEmpty()) {
             return null;
@@ -35,54 +72,321 @@ public class TaskDAO {
         }
     }
 
+    // One query for all ids (= any(?)); missing ids are absent from the result
+    public Map<Integer, Task> findByIds(Collection<Integer> ids) {
+        Map<Integer, Task> tasks = new HashMap<>();
+        if (ids.isEmpty()) {
+            return tasks;
+        }
+        String sql = SELECT_SQL + " where id = any(?)";
+        for (Task task : jdbc.query(IdArrays.statement(sql, ids), mapper)) {
+            tasks.put(task.getId(), task);
+        }
+        return tasks;
+    }
+
+    public boolean existsById(int id) {
+        String sql = "select exists(select 1 from tasks where id = ?)";
+        return Boolean.TRUE.equals(jdbc.queryForObject(sql, Boolean.class, id));
+    }
+
+    // The subset of ids that exist, checked with one query
+    public Set<Integer> existingIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        String sql = "select id from tasks where id = any(?)";
+        return new HashSet<>(jdbc.query(IdArrays.statement(sql, ids), (rs, rowNum) -> rs.getInt(1)));
+    }
+
     public int save(Task task) {
-        String sql = "insert into tasks (name, description, status, priority, dueDate, projectId, userId) values(?, ?, ?, ?, ?, ?, ?)";
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbc.update(connection -> {
-            PreparedStatement ps = connection.prepareStatement(sql, new String[] { "id" });
-            ps.setString(1, task.getName());
-            ps.setString(2, task.getDescription());
-            ps.setString(3, task.getStatus());
-            ps.setInt(4, task.getPriority());
-            ps.setDate(5, Date.valueOf(task.getDueDate()));
-            ps.setInt(6, task.getProjectId());
-            ps.setInt(7, task.getUserId());
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[] { "id" });
+            setInsertParameters(ps, task);
             return ps;
         }, keyHolder);
 
-        return keyHolder.getKey().intValue();
+        int id = keyHolder.getKey().intValue();
+        changes.published(Entity.TASK, Op.INSERT, id);
+        return id;
+    }
+
+    // Inserts all tasks with JDBC batching and returns the generated ids in input order
+    public int[] saveAll(List<Task> tasks) {
+        int[] ids = BatchInserts.insertAll(jdbc, INSERT_SQL, tasks, batchSize, this::setInsertParameters);
+        changes.published(Entity.TASK, Op.INSERT, Arrays.stream(ids).boxed().toList());
+        return ids;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    // Writes only the columns changed since the task was loaded (all of them for an untracked task);
+    // false when no row has the id
+    public boolean update(Task task) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        for (Task.Field field : task.getChangedFields()) {
+            switch (field) {
+                case NAME -> columns.put("name", task.getName());
+                case DESCRIPTION -> columns.put("description", task.getDescription());
+                case STATUS -> columns.put("status", task.getStatus().getCode());
+                case PRIORITY -> columns.put("priority", task.getPriority());
+                case DUE_DATE -> columns.put("dueDate", task.getDueDate());
+                case PROJECT_ID -> columns.put("projectId", task.getProjectId());
+                case USER_ID -> columns.put("userId", task.getUserId());
+            }
+        }
+        boolean updated = PartialUpdates.update(jdbc, "tasks", task.getId(), columns, () -> { });
+        if (updated && !columns.isEmpty()) {
+            changes.published(Entity.TASK, Op.UPDATE, task.getId());
+        }
+        task.markClean();
+        return updated;
+    }
+
+    // Single-column updates: one statement, the updated row comes back through returning (null when the id does not exist)
+
+    public Task updateStatus(int id, TaskStatus status) {
+        flushPending(id);
+        String sql = "update tasks set status=? where id=?" + RETURNING_SQL;
+        return published(Op.UPDATE, queryOne(sql, status.getCode(), id));
+    }
+
+    public Task updatePriority(int id, int priority) {
+        flushPending(id);
+        String sql = "update tasks set priority=? where id=?" + RETURNING_SQL;
+        return published(Op.UPDATE, queryOne(sql, priority, id));
+    }
+
+    public Task updateUserId(int id, int userId) {
+        flushPending(id);
+        String sql = "update tasks set userId=? where id=?" + RETURNING_SQL;
+        return published(Op.UPDATE, queryOne(sql, userId, id));
+    }
+
+    private Task queryOne(String sql, Object... params) {
+        List<Task> tasks = jdbc.query(sql, mapper, params);
+        return tasks.isEmpty() ? null : tasks.get(0);
+    }
+
+    // Set-based updates: one statement per call that skips rows already holding the value
+    // and returns the rows it changed
+
+    public List<Task> updateStatus(Collection<Integer> ids, TaskStatus status) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        flushPending();
+        String sql = "update tasks set status=? where id = any(?) and status <> ?" + RETURNING_SQL;
+        return published(Op.UPDATE, jdbc.query(IdArrays.statement(sql, status.getCode(), ids, status.getCode()), mapper));
+    }
+
+    public List<Task> reassignAll(int fromUserId, int toUserId) {
+        flushPending();
+        String sql = "update tasks set userId=? where userId=?" + RETURNING_SQL;
+        return published(Op.UPDATE, jdbc.query(sql, mapper, toUserId, fromUserId));
+    }
+
+    // Sort and limit of the criteria do not apply to an update and are rejected
+    public List<Task> updatePriorityWhere(TaskCriteria criteria, int priority) {
+        if (criteria.getSort() != null) {
+            throw new IllegalArgumentException("Sort is not supported for bulk updates");
+        }
+        if (criteria.getLimit() != null) {
+            throw new IllegalArgumentException("Limit is not supported for bulk updates");
+        }
+        flushPending();
+        StringBuilder sql = new StringBuilder("update tasks set priority=?");
+        List<Object> params = new ArrayList<>();
+        params.add(priority);
+        criteria.appendWhere(sql, params, "priority <> ?", priority);
+        sql.append(RETURNING_SQL);
+        return published(Op.UPDATE, jdbc.query(sql.toString(), mapper, params.toArray()));
+    }
+
+    // Claims move one TODO task of the user to IN_PROGRESS and return it (null when none could be
+    // claimed). The row is picked for update skip locked, so concurrent claimers never get the same
+    // task: a row another transaction is claiming is passed over instead of waited on, and once
+    // that transaction commits the row is no longer TODO.
+
+    // The first of the candidate ids, in dispatch order, that is still claimable
+    public Task claimNext(int userId, Collection<Integer> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return null;
+        }
+        flushPending();
+        String sql = CLAIM_SQL.formatted("and id = any(?)");
+        List<Task> tasks = jdbc.query(IdArrays.statement(sql, TaskStatus.IN_PROGRESS.getCode(), userId,
+                TaskStatus.TODO.getCode(), candidateIds), mapper);
+        return published(Op.UPDATE, tasks.isEmpty() ? null : tasks.get(0));
+    }
+
+    // The user's first claimable task in dispatch order, read from tasks_user_todo_idx
+    public Task claimNext(int userId) {
+        flushPending();
+        String sql = CLAIM_SQL.formatted("");
+        return published(Op.UPDATE, queryOne(sql, TaskStatus.IN_PROGRESS.getCode(), userId, TaskStatus.TODO.getCode()));
+    }
+
+    // Returns the deleted row, or null when no task has the id
+    public Task deleteById(int id) {
+        flushPending(id);
+        String sql = "delete from tasks where id=?" + RETURNING_SQL;
+        return published(Op.DELETE, queryOne(sql, id));
+    }
+
+    // Inside a UnitOfWork a statement that writes rows directly goes after their queued updates,
+    // which would otherwise be written over it at commit (or fail it, for a deleted row)
+
+    private static void flushPending(int id) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork != null) {
+            unitOfWork.flush("tasks", id);
+        }
+    }
+
+    private static void flushPending() {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork != null) {
+            unitOfWork.flush("tasks");
+        }
+    }
+
+    private Task published(Op op, Task task) {
+        if (task != null) {
+            changes.published(Entity.TASK, op, task.getId());
+        }
+        return task;
+    }
+
+    private List<Task> published(Op op, List<Task> tasks) {
+        List<Integer> ids = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            ids.add(task.getId());
+        }
+        changes.published(Entity.TASK, op, ids);
+        return tasks;
+    }
+
+    // Current rows of the tasks, locked until the transaction ends; for writes that need the old values.
+    // Inside a UnitOfWork the rows include its pending updates, as the write will follow them.
+    public Map<Integer, Task> findByIdsForUpdate(Collection<Integer> ids) {
+        Map<Integer, Task> tasks = new HashMap<>();
+        if (ids.isEmpty()) {
+            return tasks;
+        }
+        String sql = SELECT_SQL + " where id = any(?) for update";
+        for (Task task : jdbc.query(IdArrays.statement(sql, ids), mapper)) {
+            tasks.put(task.getId(), withPending(task));
+        }
+        return tasks;
+    }
+
+    public Task findByIdForUpdate(int id) {
+        String sql = SELECT_SQL + " where id=? for update";
+        Task task = queryOne(sql, id);
+        return task != null ? withPending(task) : null;
+    }
+
+    private static Task withPending(Task task) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork == null) {
+            return task;
+        }
+        for (Map.Entry<String, Object> column : unitOfWork.pendingColumns("tasks", task.getId()).entrySet()) {
+            Object value = column.getValue();
+            switch (column.getKey()) {
+                case "name" -> task.setName((String) value);
+                case "description" -> task.setDescription((String) value);
+                case "status" -> task.setStatus(TaskStatus.fromCode((Short) value));
+                case "priority" -> task.setPriority((Integer) value);
+                case "dueDate" -> task.setDueDate((LocalDate) value);
+                case "projectId" -> task.setProjectId((Integer) value);
+                case "userId" -> task.setUserId((Integer) value);
+                default -> throw new IllegalStateException("Unknown tasks column: " + column.getKey());
+            }
+        }
+        task.markClean();
+        return task;
+    }
+
+    public List<Task> findByCriteria(TaskCriteria criteria) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> params = new ArrayList<>();
+        criteria.appendWhere(sql, params);
+        criteria.appendOrderByAndLimit(sql, params);
+        return jdbc.query(sql.toString(), mapper, params.toArray());
     }
 
-    public void update(Task task) {
-        String sql = "update tasks set name=?, description=?, status=?, priority=?, dueDate=?, projectId=?, userId=? where id=?";
-        jdbc.update(sql, task.getName(), task.getDescription(), task.getStatus(), task.getPriority(), task.getDueDate(),
-                task.getProjectId(), task.getUserId(), task.getId());
+    // Streams rows through a server-side cursor; close the stream (try-with-resources) to release the connection
+    public Stream<Task> streamByCriteria(TaskCriteria criteria) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> params = new ArrayList<>();
+        criteria.appendWhere(sql, params);
+        criteria.appendOrderByAndLimit(sql, params);
+        return CursorStreams.stream(jdbc, fetchSize, sql.toString(), mapper, params.toArray());
     }
 
-    public void deleteById(int id) {
-        String sql = "delete from tasks where id=?";
-        jdbc.update(sql, id);
+    public Stream<Task> streamAll() {
+        return streamByCriteria(TaskCriteria.all());
+    }
+
+    public Stream<Task> streamByProjectId(int projectId) {
+        return streamByCriteria(TaskCriteria.all().projectId(projectId));
+    }
+
+    public Stream<Task> streamByUserId(int userId) {
+        return streamByCriteria(TaskCriteria.all().userId(userId));
+    }
+
+    // Keyset pagination: pass null for the first page, then the token from the previous page.
+    // The criteria sort (id by default) decides the order, its limit is replaced by pageSize.
+    public Page<Task> findPage(TaskCriteria criteria, String pageToken, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        TaskCriteria.Sort sort = criteria.getSort() != null ? criteria.getSort() : TaskCriteria.Sort.ID;
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> params = new ArrayList<>();
+        if (pageToken == null) {
+            criteria.appendWhere(sql, params);
+        } else {
+            criteria.appendWhere(sql, params, sort.getKeysetCondition(), decodeKeyset(sort, pageToken));
+        }
+        sql.append(" order by ").append(sort.getOrderBy()).append(" limit ?");
+        params.add(pageSize + 1);
+
+        List<Task> tasks = jdbc.query(sql.toString(), mapper, params.toArray());
+        if (tasks.size() <= pageSize) {
+            return new Page<>(tasks, null);
+        }
+
+        List<Task> page = new ArrayList<>(tasks.subList(0, pageSize));
+        return new Page<>(page, encodeKeyset(sort, page.get(pageSize - 1)));
     }
 
     public List<Task> findByProjectId(int projectId) {
-        String sql = "select * from tasks where projectId=?";
-        return jdbc.query(sql, mapper, projectId);
+        return findByCriteria(TaskCriteria.all().projectId(projectId));
     }
 
     public List<Task> findByUserId(int userId) {
-        String sql = "select * from tasks where userId=?";
-        return jdbc.query(sql, mapper, userId);
+        return findByCriteria(TaskCriteria.all().userId(userId));
     }
 
-    public List<Task> findByStatus(String status) {
-        String sql = "select * from tasks where status=?";
-        return jdbc.query(sql, mapper, status);
+    public List<Task> findByStatus(TaskStatus status) {
+        return findByCriteria(TaskCriteria.all().status(status));
     }
 
     public List<Task> findByPriorityDesc() {
-        String sql = "select * from tasks order by priority desc";
-        return jdbc.query(sql, mapper);
+        return findByCriteria(TaskCriteria.all().sortBy(TaskCriteria.Sort.PRIORITY_DESC));
     }
 
     public int countTasksByProject(int projectId) {
@@ -91,8 +395,65 @@ public class TaskDAO {
         return count != null ? count : 0;
     }
 
+    // All status counters and the overdue count in a single aggregate query, comparing status codes
+    public TaskCounts countByCriteria(TaskCriteria criteria, LocalDate today) {
+        StringBuilder sql = new StringBuilder("select count(*) as total, "
+                + "count(*) filter (where status = " + TaskStatus.TODO.getCode() + ") as todo, "
+                + "count(*) filter (where status = " + TaskStatus.IN_PROGRESS.getCode() + ") as inProgress, "
+                + "count(*) filter (where status = " + TaskStatus.COMPLETED.getCode() + ") as completed, "
+                + "count(*) filter (where status = " + TaskStatus.BLOCKED.getCode() + ") as blocked, "
+                + "count(*) filter (where dueDate < ? and status <> " + TaskStatus.COMPLETED.getCode() + ") as overdue "
+                + "from tasks");
+        List<Object> params = new ArrayList<>();
+        params.add(Date.valueOf(today));
+        criteria.appendWhere(sql, params);
+        return jdbc.queryForObject(sql.toString(), countsMapper, params.toArray());
+    }
+
+    // Open (not completed) tasks due before today, served by the partial index tasks_open_due_date_idx
     public List<Task> findOverdueTasks() {
-        String sql = "select * from tasks where dueDate < current_date";
-        return jdbc.query(sql, mapper);
+        return findByCriteria(TaskCriteria.all().open().dueBefore(LocalDate.now()));
+    }
+
+    private static String encodeKeyset(TaskCriteria.Sort sort, Task last) {
+        switch (sort) {
+            case PRIORITY_DESC:
+                return PageToken.encode(sort.name(), last.getPriority(), last.getId());
+            case DUE_DATE:
+                return PageToken.encode(sort.name(), last.getDueDate(), last.getId());
+            default:
+                return PageToken.encode(sort.name(), last.getId());
+        }
+    }
+
+    private static Object[] decodeKeyset(TaskCriteria.Sort sort, String pageToken) {
+        switch (sort) {
+            case PRIORITY_DESC: {
+                String[] key = PageToken.decode(pageToken, sort.name(), 2);
+                return new Object[] { PageToken.parseId(key[0]), PageToken.parseId(key[1]) };
+            }
+            case DUE_DATE: {
+                String[] key = PageToken.decode(pageToken, sort.name(), 2);
+                try {
+                    return new Object[] { Date.valueOf(LocalDate.parse(key[0])), PageToken.parseId(key[1]) };
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("Invalid page token");
+                }
+            }
+            default: {
+                String[] key = PageToken.decode(pageToken, sort.name(), 1);
+                return new Object[] { PageToken.parseId(key[0]) };
+            }
+        }
+    }
+
+    private void setInsertParameters(PreparedStatement ps, Task task) throws SQLException {
+        ps.setString(1, task.getName());
+        ps.setString(2, task.getDescription());
+        ps.setShort(3, task.getStatus().getCode());
+        ps.setInt(4, task.getPriority());
+        ps.setDate(5, Date.valueOf(task.getDueDate()));
+        ps.setInt(6, task.getProjectId());
+        ps.setInt(7, task.getUserId());
     }
 }
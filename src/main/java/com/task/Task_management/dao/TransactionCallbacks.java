@@ -0,0 +1,35 @@
+package com.task.Task_management.dao;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Defers in-memory updates until the surrounding transaction commits, so a rolled back
+// write never shows up in caches and indexes. Inside a UnitOfWork the action then also waits
+// for the unit of work to commit, since its updates are only written then. Without either it runs now.
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    afterUnitOfWork(action);
+                }
+            });
+        } else {
+            afterUnitOfWork(action);
+        }
+    }
+
+    private static void afterUnitOfWork(Runnable action) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork != null) {
+            unitOfWork.afterCommit(action);
+        } else {
+            action.run();
+        }
+    }
+}
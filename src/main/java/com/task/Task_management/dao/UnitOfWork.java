@@ -0,0 +1,254 @@
+package com.task.Task_management.dao;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Collects the DAO update(...) calls made on one thread and writes them on commit as JDBC
+// batches. Updates of the same row merge, so each row is written once with every column that
+// changed; rows with the same changed columns share a statement. The unit of work runs in one
+// transaction from begin to commit, which the service calls join: inserts, deletes, reads and
+// the task counter deltas (queued and written after the batches) commit or roll back together
+// with the batched updates. Plain reads do not see pending updates; TaskDAO's reads for update
+// apply the pending columns of their rows, and its direct writes (single-column and set-based
+// updates, claims, deletes) flush the pending updates they could overwrite first.
+//
+//   try (UnitOfWork unitOfWork = unitOfWorkManager.begin()) {
+//       ... service calls ...
+//       unitOfWork.commit();
+//   }
+//
+// Closing without commit rolls the transaction back and discards the pending updates together
+// with the after-commit actions (cache invalidation, change listeners) registered inside it.
+// An update whose row no longer exists fails the commit with
+// IncorrectUpdateSemanticsDataAccessException, see onFailure for reporting it per row.
+public final class UnitOfWork implements AutoCloseable {
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private record RowKey(String table, int id) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final PlatformTransactionManager transactionManager;
+    private final int batchSize;
+
+    // Pending columns per row, ordered by column name so equal column sets give equal SQL
+    private final Map<RowKey, TreeMap<String, Object>> rows = new LinkedHashMap<>();
+    private final Map<RowKey, Function<DataAccessException, RuntimeException>> failures = new HashMap<>();
+    private final TaskCounterDAO.Deltas counterDeltas = new TaskCounterDAO.Deltas();
+    private TaskCounterDAO counters;
+    private final List<Runnable> afterCommit = new ArrayList<>();
+    private TransactionStatus transaction;
+    private boolean closed;
+
+    UnitOfWork(JdbcTemplate jdbc, PlatformTransactionManager transactionManager, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.jdbc = jdbc;
+        this.transactionManager = transactionManager;
+        this.batchSize = batchSize;
+    }
+
+    // The unit of work bound to the calling thread, or null
+    public static UnitOfWork current() {
+        return CURRENT.get();
+    }
+
+    void bind() {
+        if (CURRENT.get() != null) {
+            throw new IllegalStateException("A unit of work is already active on this thread");
+        }
+        transaction = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        CURRENT.set(this);
+    }
+
+    void add(String table, int id, Map<String, Object> columns, Runnable afterWrite) {
+        checkOpen();
+        rows.computeIfAbsent(new RowKey(table, id), key -> new TreeMap<>()).putAll(columns);
+        afterCommit.add(afterWrite);
+    }
+
+    // Counter deltas of the writes made inside the unit of work, written by counters.apply
+    // in the commit transaction, after the updates
+    void addCounterDeltas(TaskCounterDAO counters, TaskCounterDAO.Deltas deltas) {
+        checkOpen();
+        this.counters = counters;
+        counterDeltas.addAll(deltas);
+    }
+
+    // Runs the action once the pending updates are committed
+    public void afterCommit(Runnable action) {
+        checkOpen();
+        afterCommit.add(action);
+    }
+
+    // Maps a failure to write the pending update of the row at commit (its foreign keys violated,
+    // or IncorrectUpdateSemanticsDataAccessException when the row no longer exists) to the
+    // exception commit throws instead
+    public void onFailure(String table, int id, Function<DataAccessException, RuntimeException> translator) {
+        checkOpen();
+        failures.put(new RowKey(table, id), translator);
+    }
+
+    public int getPendingRows() {
+        return rows.size();
+    }
+
+    // Columns of the row waiting to be written, empty when none
+    Map<String, Object> pendingColumns(String table, int id) {
+        TreeMap<String, Object> columns = rows.get(new RowKey(table, id));
+        return columns != null ? Collections.unmodifiableMap(columns) : Map.of();
+    }
+
+    // Writes the pending update of the row now, in the unit of work's transaction, ahead of a
+    // statement that writes the row directly and would otherwise be overwritten at commit
+    void flush(String table, int id) {
+        RowKey row = new RowKey(table, id);
+        flush(row::equals);
+    }
+
+    // Same for every pending row of the table, ahead of a statement that may write any of them
+    void flush(String table) {
+        flush(row -> row.table().equals(table));
+    }
+
+    private void flush(Predicate<RowKey> selected) {
+        checkOpen();
+        Map<RowKey, TreeMap<String, Object>> flushed = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<RowKey, TreeMap<String, Object>>> it = rows.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<RowKey, TreeMap<String, Object>> row = it.next();
+            if (selected.test(row.getKey())) {
+                flushed.put(row.getKey(), row.getValue());
+                it.remove();
+            }
+        }
+        writeRows(flushed);
+    }
+
+    // Writes every pending update, commits the transaction and ends the unit of work
+    public void commit() {
+        checkOpen();
+        closed = true;
+        unbind();
+
+        try {
+            writeRows(rows);
+            if (counters != null) {
+                counters.apply(counterDeltas);
+            }
+        } catch (RuntimeException e) {
+            transactionManager.rollback(transaction);
+            throw e;
+        }
+        transactionManager.commit(transaction);
+
+        for (Runnable action : afterCommit) {
+            action.run();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        unbind();
+        transactionManager.rollback(transaction);
+    }
+
+    private void unbind() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    // Groups the rows by changed columns and writes each group with one statement
+    private void writeRows(Map<RowKey, TreeMap<String, Object>> pending) {
+        Map<String, List<RowKey>> keys = new LinkedHashMap<>();
+        Map<String, List<Object[]>> batches = new LinkedHashMap<>();
+        for (Map.Entry<RowKey, TreeMap<String, Object>> row : pending.entrySet()) {
+            TreeMap<String, Object> columns = row.getValue();
+            Object[] params = new Object[columns.size() + 1];
+            int i = 0;
+            for (Object value : columns.values()) {
+                params[i++] = value;
+            }
+            params[i] = row.getKey().id();
+            String sql = PartialUpdates.sql(row.getKey().table(), columns.keySet());
+            keys.computeIfAbsent(sql, key -> new ArrayList<>()).add(row.getKey());
+            batches.computeIfAbsent(sql, key -> new ArrayList<>()).add(params);
+        }
+
+        for (Map.Entry<String, List<Object[]>> batch : batches.entrySet()) {
+            write(batch.getKey(), batch.getValue(), keys.get(batch.getKey()));
+        }
+    }
+
+    // One statement's rows in batches of batchSize; a row that was not updated, or that failed,
+    // is reported through its onFailure translator
+    private void write(String sql, List<Object[]> params, List<RowKey> keys) {
+        for (int from = 0; from < params.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, params.size());
+            int[] counts;
+            try {
+                counts = jdbc.batchUpdate(sql, params.subList(from, to));
+            } catch (DataAccessException e) {
+                int failed = failedIndex(e);
+                throw failed >= 0 && from + failed < to ? translate(keys.get(from + failed), e) : e;
+            }
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    RowKey key = keys.get(from + i);
+                    throw translate(key, new IncorrectUpdateSemanticsDataAccessException(
+                            "No " + key.table() + " row with id " + key.id() + " to update"));
+                }
+            }
+        }
+    }
+
+    // Position in the batch of the statement that failed, -1 when the driver did not say
+    private static int failedIndex(DataAccessException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BatchUpdateException batch) {
+                int[] counts = batch.getUpdateCounts();
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] == Statement.EXECUTE_FAILED) {
+                        return i;
+                    }
+                }
+                return counts.length;
+            }
+        }
+        return -1;
+    }
+
+    private RuntimeException translate(RowKey key, DataAccessException e) {
+        Function<DataAccessException, RuntimeException> translator = failures.get(key);
+        return translator != null ? translator.apply(e) : e;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Unit of work is already closed");
+        }
+    }
+}
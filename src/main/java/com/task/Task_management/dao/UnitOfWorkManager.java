@@ -0,0 +1,27 @@
+package com.task.Task_management.dao;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// Starts units of work, each bound to the calling thread with its own transaction
+@Component
+public class UnitOfWorkManager {
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${jdbc.batch.size:500}")
+    private int batchSize;
+
+    public UnitOfWork begin() {
+        UnitOfWork unitOfWork = new UnitOfWork(jdbc, transactionManager, batchSize);
+        unitOfWork.bind();
+        return unitOfWork;
+    }
+}
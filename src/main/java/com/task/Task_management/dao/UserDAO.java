@@ -1,15 +1,30 @@
 package com.task.Task_management.dao;
 
+import com.task.Task_management.cache.EntityCache;
 import com.task.Task_management.mapper.UserRowMapper;
 import com.task.Task_management.model.User;
+import com.task.Task_management.sync.ChangeNotification.Entity;
+import com.task.Task_management.sync.ChangeNotification.Op;
+import com.task.Task_management.sync.ChangePublisher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public class UserDAO {
@@ -17,6 +32,21 @@ public class UserDAO {
     private UserRowMapper mapper = new UserRowMapper();
     private JdbcTemplate jdbc;
 
+    @Value("${jdbc.batch.size:500}")
+    private int batchSize;
+
+    @Value("${jdbc.stream.fetch-size:1000}")
+    private int fetchSize;
+
+    private final EntityCache<User> cache = new EntityCache<>("users", User::new);
+
+    // Announces every write to the other nodes
+    @Autowired
+    private ChangePublisher changes;
+
+    private static final String SELECT_SQL = "select " + UserRowMapper.COLUMNS + " from users";
+    private static final String INSERT_SQL = "insert into users (username, email, role) values(?, ?, ?)";
+
     public JdbcTemplate getJdbc() {
         return jdbc;
     }
@@ -27,12 +57,61 @@ public class UserDAO {
     }
 
     public List<User> findAll() {
-        String sql = "select * from users";
+        String sql = SELECT_SQL;
         return jdbc.query(sql, mapper);
     }
 
+    // Streams rows through a server-side cursor; close the stream (try-with-resources) to release the connection
+    public Stream<User> streamAll() {
+        String sql = SELECT_SQL + " order by id";
+        return CursorStreams.stream(jdbc, fetchSize, sql, mapper);
+    }
+
+    // Keyset pagination by id: pass null for the first page, then the token from the previous page
+    public Page<User> findPage(String pageToken, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        int afterId = 0;
+        if (pageToken != null) {
+            afterId = PageToken.parseId(PageToken.decode(pageToken, "ID", 1)[0]);
+        }
+
+        String sql = SELECT_SQL + " where id > ? order by id limit ?";
+        List<User> rows = jdbc.query(sql, mapper, afterId, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+
+        List<User> page = new ArrayList<>(rows.subList(0, pageSize));
+        return new Page<>(page, PageToken.encode("ID", page.get(pageSize - 1).getId()));
+    }
+
+    // Served from the entity cache when possible, see cache.entity.* properties
     public User findById(int id) {
-        String sql = "select * from users where id = ?";
+        return cache.get(id, this::loadById);
+    }
+
+    // One query for all ids (= any(?)), cached entities are not re-read; missing ids are absent from the result
+    public Map<Integer, User> findByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return cache.getAll(ids, this::loadByIds);
+    }
+
+    private Map<Integer, User> loadByIds(Set<Integer> ids) {
+        String sql = SELECT_SQL + " where id = any(?)";
+        Map<Integer, User> users = new HashMap<>();
+        for (User user : jdbc.query(IdArrays.statement(sql, ids), mapper)) {
+            users.put(user.getId(), user);
+        }
+        return users;
+    }
+
+    private User loadById(int id) {
+        String sql = SELECT_SQL + " where id = ?";
         List<User> users = jdbc.query(sql, mapper, id);
         if (users.isEmpty()) {
             return null; // No user found
@@ -40,29 +119,128 @@ public class UserDAO {
         return users.get(0); // Return first (and only) user
     }
 
+    // Case-insensitive, served by the unique index on lower(email)
+    public User findByEmail(String email) {
+        String sql = SELECT_SQL + " where lower(email) = lower(?)";
+        List<User> users = jdbc.query(sql, mapper, email);
+        if (users.isEmpty()) {
+            return null;
+        }
+        return users.get(0);
+    }
+
+    public boolean existsByEmail(String email) {
+        String sql = "select exists(select 1 from users where lower(email) = lower(?))";
+        return Boolean.TRUE.equals(jdbc.queryForObject(sql, Boolean.class, email));
+    }
+
+    // Always asks the database: existence checks guard writes, and a cached row may belong to a
+    // user deleted by a transaction that has not finished invalidating yet
+    public boolean existsById(int id) {
+        String sql = "select exists(select 1 from users where id = ?)";
+        return Boolean.TRUE.equals(jdbc.queryForObject(sql, Boolean.class, id));
+    }
+
+    // The subset of ids that exist, checked with one query
+    public Set<Integer> existingIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        String sql = "select id from users where id = any(?)";
+        return new HashSet<>(jdbc.query(IdArrays.statement(sql, ids), (rs, rowNum) -> rs.getInt(1)));
+    }
+
     public int save(User user) {
-        String sql = "insert into users (username, email, role) values(?, ?, ?)";
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbc.update(connection -> {
-            PreparedStatement ps = connection.prepareStatement(sql, new String[] { "id" });
-            ps.setString(1, user.getUsername());
-            ps.setString(2, user.getEmail());
-            ps.setString(3, user.getRole());
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[] { "id" });
+            setInsertParameters(ps, user);
             return ps;
         }, keyHolder);
 
-        return keyHolder.getKey().intValue();
+        int id = keyHolder.getKey().intValue();
+        cache.markWritten();
+        changes.published(Entity.USER, Op.INSERT, id);
+        return id;
     }
 
-    public void update(User user) {
-        String sql = "update users set username = ?, email = ?, role = ? where id = ?";
-        jdbc.update(sql, user.getUsername(), user.getEmail(), user.getRole(), user.getId());
+    // Inserts all users with JDBC batching and returns the generated ids in input order
+    public int[] saveAll(List<User> users) {
+        int[] ids = BatchInserts.insertAll(jdbc, INSERT_SQL, users, batchSize, this::setInsertParameters);
+        cache.markWritten();
+        changes.published(Entity.USER, Op.INSERT, Arrays.stream(ids).boxed().toList());
+        return ids;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    // Writes only the columns changed since the user was loaded (all of them for an untracked user);
+    // false when no row has the id
+    public boolean update(User user) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        for (User.Field field : user.getChangedFields()) {
+            switch (field) {
+                case USERNAME -> columns.put("username", user.getUsername());
+                case EMAIL -> columns.put("email", user.getEmail());
+                case ROLE -> columns.put("role", user.getRole().getCode());
+            }
+        }
+        int id = user.getId();
+        invalidate(id);
+        boolean updated = PartialUpdates.update(jdbc, "users", id, columns, () -> invalidate(id));
+        if (updated && !columns.isEmpty()) {
+            changes.published(Entity.USER, Op.UPDATE, id);
+        }
+        user.markClean();
+        return updated;
     }
 
     public void deleteById(int id) {
         String sql = "delete from users where id = ?";
-        jdbc.update(sql, id);
+        if (jdbc.update(sql, id) > 0) {
+            changes.published(Entity.USER, Op.DELETE, id);
+        }
+        invalidate(id);
+    }
+
+    // Drops the cached row now and again once the write commits: a read between the two
+    // could otherwise cache the old row for the whole TTL
+    private void invalidate(int id) {
+        cache.invalidate(id);
+        cache.markWritten();
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(id));
+    }
+
+    public EntityCache<User> getCache() {
+        return cache;
+    }
+
+    @Value("${cache.entity.enabled:true}")
+    public void setCacheEnabled(boolean enabled) {
+        cache.setEnabled(enabled);
+    }
+
+    @Value("${cache.entity.max-size:10000}")
+    public void setCacheMaxSize(int maxSize) {
+        cache.setMaxSize(maxSize);
+    }
+
+    @Value("${cache.entity.ttl-seconds:300}")
+    public void setCacheTtlSeconds(long ttlSeconds) {
+        cache.setTtlSeconds(ttlSeconds);
+    }
+
+    private void setInsertParameters(PreparedStatement ps, User user) throws SQLException {
+        ps.setString(1, user.getUsername());
+        ps.setString(2, user.getEmail());
+        ps.setShort(3, user.getRole().getCode());
     }
 
 }
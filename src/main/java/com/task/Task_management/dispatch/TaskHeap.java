@@ -0,0 +1,144 @@
+package com.task.Task_management.dispatch;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// Indexed binary max-heap of task ids in dispatch order: highest priority first, then earliest
+// due date, then lowest id (the order of TaskDAO.claimNext). Keys live in parallel arrays and
+// positionById finds an entry, so put and remove of any task are O(log n).
+final class TaskHeap {
+
+    private int[] ids = new int[8];
+    private int[] priorities = new int[8];
+    private int[] dueDays = new int[8];
+    private int size;
+
+    private final Map<Integer, Integer> positionById = new HashMap<>();
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int id) {
+        return positionById.containsKey(id);
+    }
+
+    // Inserts the task, or moves it when it is already queued with other keys
+    void put(int id, int priority, int dueDay) {
+        Integer position = positionById.get(id);
+        if (position == null) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                priorities = Arrays.copyOf(priorities, capacity);
+                dueDays = Arrays.copyOf(dueDays, capacity);
+            }
+            set(size, id, priority, dueDay);
+            siftUp(size++);
+            return;
+        }
+        priorities[position] = priority;
+        dueDays[position] = dueDay;
+        siftDown(siftUp(position));
+    }
+
+    boolean remove(int id) {
+        Integer position = positionById.remove(id);
+        if (position == null) {
+            return false;
+        }
+        int last = --size;
+        if (position != last) {
+            set(position, ids[last], priorities[last], dueDays[last]);
+            siftDown(siftUp(position));
+        }
+        return true;
+    }
+
+    // Id at the top, -1 when empty
+    int peek() {
+        return size > 0 ? ids[0] : -1;
+    }
+
+    // The first k ids in dispatch order without removing them: walks the heap from the root with
+    // a frontier of candidate positions, so it costs O(k log k) whatever the heap size
+    int[] topK(int k) {
+        int count = Math.min(k, size);
+        int[] top = new int[count];
+        if (count == 0) {
+            return top;
+        }
+        PriorityQueue<Integer> frontier = new PriorityQueue<>(
+                (a, b) -> before(a, b) ? -1 : before(b, a) ? 1 : 0);
+        frontier.add(0);
+        for (int i = 0; i < count; i++) {
+            int position = frontier.poll();
+            top[i] = ids[position];
+            int child = 2 * position + 1;
+            if (child < size) {
+                frontier.add(child);
+            }
+            if (child + 1 < size) {
+                frontier.add(child + 1);
+            }
+        }
+        return top;
+    }
+
+    private int siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!before(position, parent)) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+        return position;
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int first = position;
+            int left = 2 * position + 1;
+            if (left < size && before(left, first)) {
+                first = left;
+            }
+            if (left + 1 < size && before(left + 1, first)) {
+                first = left + 1;
+            }
+            if (first == position) {
+                return;
+            }
+            swap(position, first);
+            position = first;
+        }
+    }
+
+    private boolean before(int a, int b) {
+        if (priorities[a] != priorities[b]) {
+            return priorities[a] > priorities[b];
+        }
+        if (dueDays[a] != dueDays[b]) {
+            return dueDays[a] < dueDays[b];
+        }
+        return ids[a] < ids[b];
+    }
+
+    private void swap(int a, int b) {
+        int id = ids[a];
+        int priority = priorities[a];
+        int dueDay = dueDays[a];
+        set(a, ids[b], priorities[b], dueDays[b]);
+        set(b, id, priority, dueDay);
+    }
+
+    private void set(int position, int id, int priority, int dueDay) {
+        ids[position] = id;
+        priorities[position] = priority;
+        dueDays[position] = dueDay;
+        positionById.put(id, position);
+    }
+}
@@ -0,0 +1,162 @@
+package com.task.Task_management.dispatch;
+
+import com.task.Task_management.dao.TaskDAO;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+import com.task.Task_management.service.TaskChangeBuffer;
+import com.task.Task_management.service.TaskChangeListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// One TaskHeap of TODO tasks per user, loaded once from TaskDAO.streamAll() and kept current
+// through after-commit TaskChangeListener callbacks: a status, priority, due date or user change
+// moves the task in O(log n). Only proposes candidates; TaskService.pollNextTask claims them
+// in the database, so a stale entry can never be handed out twice.
+@Component
+public class TaskQueues implements TaskChangeListener {
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, TaskHeap> heapByUser = new HashMap<>();
+    private final Map<Integer, Integer> userByTask = new HashMap<>();
+
+    // Loaded flag, and the changes arriving while a load reads the table
+    private final TaskChangeBuffer changes = new TaskChangeBuffer();
+
+    // Replaces the contents with the current tasks table
+    public void reload() {
+        load(taskDAO::streamAll);
+    }
+
+    // Replaces the contents with the given tasks
+    public void load(Stream<Task> tasks) {
+        load(() -> tasks);
+    }
+
+    private void load(Supplier<Stream<Task>> source) {
+        long load = changes.startLoad();
+        try (Stream<Task> tasks = source.get()) {
+            lock.writeLock().lock();
+            try {
+                heapByUser.clear();
+                userByTask.clear();
+                tasks.forEach(this::put);
+                if (!changes.finishLoad(load, this::invalidate)) {
+                    heapByUser.clear();
+                    userByTask.clear();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            changes.abortLoad(load);
+            throw e;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            changes.invalidate();
+            heapByUser.clear();
+            userByTask.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return changes.isLoaded();
+    }
+
+    // The user's first k TODO task ids in dispatch order
+    public int[] peekTopK(int userId, int k) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            TaskHeap heap = heapByUser.get(userId);
+            return heap != null ? heap.topK(k) : new int[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size(int userId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            TaskHeap heap = heapByUser.get(userId);
+            return heap != null ? heap.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onTaskSaved(Task task) {
+        apply(() -> put(task));
+    }
+
+    @Override
+    public void onTaskDeleted(int taskId) {
+        apply(() -> remove(taskId));
+    }
+
+    // Runs a change under the write lock, or leaves it to the load in progress (or the first load)
+    private void apply(Runnable change) {
+        if (!changes.admit(change)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!changes.isLoaded()) {
+            synchronized (this) {
+                if (!changes.isLoaded()) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private void put(Task task) {
+        Integer userId = userByTask.get(task.getId());
+        if (userId != null && userId != task.getUserId()) {
+            remove(task.getId());
+        }
+        if (task.getStatus() != TaskStatus.TODO) {
+            remove(task.getId());
+            return;
+        }
+        heapByUser.computeIfAbsent(task.getUserId(), key -> new TaskHeap())
+                .put(task.getId(), task.getPriority(), (int) task.getDueDate().toEpochDay());
+        userByTask.put(task.getId(), task.getUserId());
+    }
+
+    private void remove(int taskId) {
+        Integer userId = userByTask.remove(taskId);
+        if (userId == null) {
+            return;
+        }
+        TaskHeap heap = heapByUser.get(userId);
+        heap.remove(taskId);
+        if (heap.size() == 0) {
+            heapByUser.remove(userId);
+        }
+    }
+}
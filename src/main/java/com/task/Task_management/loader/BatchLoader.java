@@ -0,0 +1,118 @@
+package com.task.Task_management.loader;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+// Coalesces single-id lookups into batch calls, DataLoader style. The first id requested
+// opens a window; every id requested before it closes (or before the batch reaches
+// maxBatchSize) goes into the same batch function call. Repeated ids share one pending
+// lookup, and every caller gets its own copy of the result.
+public class BatchLoader<V> {
+
+    private final String name;
+    private final Function<Set<Integer>, Map<Integer, V>> batchFunction;
+    private final UnaryOperator<V> copier;
+    private final ScheduledExecutorService scheduler;
+    private final Executor dispatcher;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    // Ids waiting for the current window to close, in request order
+    private Map<Integer, CompletableFuture<V>> pending = new LinkedHashMap<>();
+
+    public BatchLoader(String name, Function<Set<Integer>, Map<Integer, V>> batchFunction, UnaryOperator<V> copier,
+                       ScheduledExecutorService scheduler, Executor dispatcher, long windowNanos, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.copier = copier;
+        this.scheduler = scheduler;
+        this.dispatcher = dispatcher;
+        this.windowNanos = windowNanos;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    // Completes with the entity, or with null when the batch function did not return the id
+    public CompletableFuture<V> load(int id) {
+        requests.increment();
+        CompletableFuture<V> future;
+        Map<Integer, CompletableFuture<V>> fullBatch = null;
+        synchronized (this) {
+            future = pending.get(id);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                pending.put(id, future);
+                if (pending.size() >= maxBatchSize) {
+                    fullBatch = pending;
+                    pending = new LinkedHashMap<>();
+                } else if (pending.size() == 1) {
+                    Map<Integer, CompletableFuture<V>> batch = pending;
+                    scheduler.schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return future.thenApply(value -> value != null ? copier.apply(value) : null);
+    }
+
+    // Runs when a window closes; a batch already dispatched for reaching maxBatchSize is skipped
+    private void flush(Map<Integer, CompletableFuture<V>> batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                return;
+            }
+            pending = new LinkedHashMap<>();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Map<Integer, CompletableFuture<V>> batch) {
+        batches.increment();
+        dispatcher.execute(() -> {
+            try {
+                Map<Integer, V> found = batchFunction.apply(batch.keySet());
+                for (Map.Entry<Integer, CompletableFuture<V>> entry : batch.entrySet()) {
+                    entry.getValue().complete(found.get(entry.getKey()));
+                }
+            } catch (RuntimeException e) {
+                for (CompletableFuture<V> future : batch.values()) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    @Override
+    public String toString() {
+        long batchCount = getBatches();
+        return String.format("%s loader | Requests: %d | Batches: %d | Requests per batch: %.1f",
+                name, getRequests(), batchCount, batchCount > 0 ? (double) getRequests() / batchCount : 0.0);
+    }
+}
@@ -0,0 +1,143 @@
+package com.task.Task_management.loader;
+
+import com.task.Task_management.dao.ProjectDAO;
+import com.task.Task_management.dao.TaskDAO;
+import com.task.Task_management.dao.UserDAO;
+import com.task.Task_management.model.Project;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.User;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Batched findById for tasks, users and projects. Concurrent lookups that arrive within
+// loader.window-micros of each other are answered by one findByIds query per entity type.
+// Batches run on virtual threads outside the caller's transaction, each on its own pooled
+// connection; at most loader.max-concurrent-batches of them run at once.
+@Component
+public class EntityLoaders implements InitializingBean, DisposableBean {
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private ProjectDAO projectDAO;
+
+    @Value("${loader.window-micros:2000}")
+    private long windowMicros;
+
+    @Value("${loader.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${loader.max-concurrent-batches:3}")
+    private int maxConcurrentBatches;
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService dispatcher;
+    private Semaphore batchPermits;
+    private BatchLoader<Task> tasks;
+    private BatchLoader<User> users;
+    private BatchLoader<Project> projects;
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "entity-loaders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("entity-loader-", 0).factory());
+        batchPermits = new Semaphore(Math.max(1, maxConcurrentBatches));
+
+        long windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        Executor limited = this::dispatch;
+        tasks = new BatchLoader<>("tasks", taskDAO::findByIds, Task::new, scheduler, limited, windowNanos, maxBatchSize);
+        users = new BatchLoader<>("users", userDAO::findByIds, User::new, scheduler, limited, windowNanos, maxBatchSize);
+        projects = new BatchLoader<>("projects", projectDAO::findByIds, Project::new, scheduler, limited, windowNanos, maxBatchSize);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    public CompletableFuture<Task> loadTask(int id) {
+        return tasks.load(id);
+    }
+
+    public CompletableFuture<User> loadUser(int id) {
+        return users.load(id);
+    }
+
+    public CompletableFuture<Project> loadProject(int id) {
+        return projects.load(id);
+    }
+
+    // Blocking variants, null when the id does not exist; DAO exceptions are rethrown unwrapped
+    public Task getTask(int id) {
+        return await(loadTask(id));
+    }
+
+    public User getUser(int id) {
+        return await(loadUser(id));
+    }
+
+    public Project getProject(int id) {
+        return await(loadProject(id));
+    }
+
+    // Pooled connections the batches can hold at once, left out of AsyncTaskService's permits
+    public int getMaxConcurrentBatches() {
+        return Math.max(1, maxConcurrentBatches);
+    }
+
+    public BatchLoader<Task> getTaskLoader() {
+        return tasks;
+    }
+
+    public BatchLoader<User> getUserLoader() {
+        return users;
+    }
+
+    public BatchLoader<Project> getProjectLoader() {
+        return projects;
+    }
+
+    // Runs a batch once one of the batch connections is free
+    private void dispatch(Runnable batch) {
+        dispatcher.execute(() -> {
+            batchPermits.acquireUninterruptibly();
+            try {
+                batch.run();
+            } finally {
+                batchPermits.release();
+            }
+        });
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -6,7 +6,9 @@ import com.task.Task_management.dao.TaskDAO;
 import com.task.Task_management.dao.UserDAO;
 import com.task.Task_management.model.Project;
 import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
 import com.task.Task_management.model.User;
+import com.task.Task_management.model.UserRole;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
@@ -38,7 +40,7 @@ public class App {
             User user = new User();
             user.setUsername("john_doe");
             user.setEmail("john@example.com");
-            user.setRole("ADMIN");
+            user.setRole(UserRole.ADMIN);
 
             int userId = userDAO.save(user);
             System.out.println(" User saved with ID: " + userId);
@@ -59,7 +61,7 @@ public class App {
             Task task = new Task();
             task.setName("Design Homepage");
             task.setDescription("Create homepage design");
-            task.setStatus("IN_PROGRESS");
+            task.setStatus(TaskStatus.IN_PROGRESS);
             task.setPriority(1);
             task.setDueDate(LocalDate.now().plusDays(7));
             task.setProjectId(projectId);
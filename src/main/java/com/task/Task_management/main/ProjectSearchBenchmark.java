@@ -0,0 +1,81 @@
+package com.task.Task_management.main;
+
+import com.task.Task_management.model.Project;
+import com.task.Task_management.search.TrigramIndex;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Compares the trigram index with the old "load everything and call contains()" scan.
+// Usage: ProjectSearchBenchmark [projectCount]
+public class ProjectSearchBenchmark {
+
+    private static final String[] WORDS = { "Website", "Mobile", "Backend", "Payments", "Redesign", "Migration",
+            "Analytics", "Platform", "Customer", "Portal", "Billing", "Search", "Inventory", "Reporting", "API" };
+
+    private static final String[] QUERIES = { "web", "payments", "migration", "portal 1", "analytics platform", "xyz" };
+
+    public static void main(String[] args) {
+        int projectCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        List<Project> projects = generateProjects(projectCount);
+
+        TrigramIndex<Project> index = new TrigramIndex<>();
+        long buildStart = System.nanoTime();
+        for (Project project : projects) {
+            index.put(project.getId(), project.getName(), project);
+        }
+        long buildNanos = System.nanoTime() - buildStart;
+
+        System.out.println("=== Project Search Benchmark (" + projectCount + " projects) ===");
+        System.out.printf("Index build: %.1f ms%n%n", buildNanos / 1_000_000.0);
+
+        for (String query : QUERIES) {
+            int iterations = 20;
+
+            // Warm up both paths before timing them
+            for (int i = 0; i < 5; i++) {
+                scan(projects, query);
+                index.search(query, 0);
+            }
+
+            long scanStart = System.nanoTime();
+            int scanMatches = 0;
+            for (int i = 0; i < iterations; i++) {
+                scanMatches = scan(projects, query).size();
+            }
+            double scanMillis = (System.nanoTime() - scanStart) / 1_000_000.0 / iterations;
+
+            long indexStart = System.nanoTime();
+            int indexMatches = 0;
+            for (int i = 0; i < iterations; i++) {
+                indexMatches = index.search(query, 0).size();
+            }
+            double indexMillis = (System.nanoTime() - indexStart) / 1_000_000.0 / iterations;
+
+            System.out.printf("'%s' | Matches: %d/%d | Scan: %.2f ms | Index: %.2f ms | Speedup: %.1fx%n",
+                    query, indexMatches, scanMatches, scanMillis, indexMillis, scanMillis / indexMillis);
+        }
+    }
+
+    // The previous ProjectService.searchProjectsByName implementation, minus the database call
+    private static List<Project> scan(List<Project> projects, String namePattern) {
+        return projects.stream()
+                .filter(project -> project.getName().toLowerCase()
+                        .contains(namePattern.toLowerCase()))
+                .toList();
+    }
+
+    private static List<Project> generateProjects(int count) {
+        Random random = new Random(42);
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            Project project = new Project(name, "Synthetic project " + i, LocalDate.now(), LocalDate.now().plusMonths(3));
+            project.setId(i);
+            projects.add(project);
+        }
+        return projects;
+    }
+}
@@ -3,7 +3,9 @@ package com.task.Task_management.main;
 import com.task.Task_management.config.DatabaseConfig;
 import com.task.Task_management.model.Project;
 import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
 import com.task.Task_management.model.User;
+import com.task.Task_management.model.UserRole;
 import com.task.Task_management.service.ProjectService;
 import com.task.Task_management.service.TaskService;
 import com.task.Task_management.service.UserService;
@@ -54,7 +56,7 @@ public class ServiceLayerTest {
         User user = new User();
         user.setUsername("john_doe");
         user.setEmail("john@example.com");
-        user.setRole("USER");
+        user.setRole(UserRole.USER);
 
         User createdUser = userService.createUser(user);
         System.out.println("✅ User created: " + createdUser.getUsername() + " (ID: " + createdUser.getId() + ")");
@@ -64,7 +66,7 @@ public class ServiceLayerTest {
         System.out.println("✅ User retrieved: " + foundUser.getUsername());
 
         // Test update user
-        foundUser.setRole("ADMIN");
+        foundUser.setRole(UserRole.ADMIN);
         User updatedUser = userService.updateUser(foundUser);
         System.out.println("✅ User updated: Role changed to " + updatedUser.getRole());
 
@@ -114,7 +116,7 @@ public class ServiceLayerTest {
             Task task = new Task();
             task.setName("Implement Login Feature");
             task.setDescription("Create user authentication system");
-            task.setStatus("TODO");
+            task.setStatus(TaskStatus.TODO);
             task.setPriority(1);
             task.setDueDate(LocalDate.now().plusWeeks(2));
             task.setProjectId(project.getId());
@@ -124,7 +126,7 @@ public class ServiceLayerTest {
             System.out.println("✅ Task created: " + createdTask.getName() + " (ID: " + createdTask.getId() + ")");
 
             // Test update task status
-            Task updatedTask = taskService.updateTaskStatus(createdTask.getId(), "IN_PROGRESS");
+            Task updatedTask = taskService.updateTaskStatus(createdTask.getId(), TaskStatus.IN_PROGRESS);
             System.out.println("✅ Task status updated to: " + updatedTask.getStatus());
 
             // Test get tasks by user
@@ -148,7 +150,7 @@ public class ServiceLayerTest {
             User manager = new User();
             manager.setUsername("project_manager");
             manager.setEmail("manager@company.com");
-            manager.setRole("MANAGER");
+            manager.setRole(UserRole.MANAGER);
             User createdManager = userService.createUser(manager);
 
             // Create a project
@@ -162,7 +164,7 @@ public class ServiceLayerTest {
             // Create multiple tasks for the project
             String[] taskNames = {"Design UI", "Implement Backend", "Testing", "Deployment"};
             int[] priorities = {2, 1, 3, 1};
-            String[] statuses = {"TODO", "IN_PROGRESS", "TODO", "TODO"};
+            TaskStatus[] statuses = {TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.TODO, TaskStatus.TODO};
 
             for (int i = 0; i < taskNames.length; i++) {
                 Task task = new Task();
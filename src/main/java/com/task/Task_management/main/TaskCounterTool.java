@@ -0,0 +1,35 @@
+package com.task.Task_management.main;
+
+import com.task.Task_management.config.DatabaseConfig;
+import com.task.Task_management.service.TaskService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+// Checks task_counters against a recount of tasks and rebuilds them when they drifted
+// (after writes that bypassed TaskService, such as manual SQL).
+// Usage: TaskCounterTool [verify|rebuild]   verify (default) exits with 1 when counters drifted
+public class TaskCounterTool {
+
+    public static void main(String[] args) {
+        String command = args.length > 0 ? args[0] : "verify";
+        if (!command.equals("verify") && !command.equals("rebuild")) {
+            System.err.println("Usage: TaskCounterTool [verify|rebuild]");
+            System.exit(2);
+        }
+
+        int drift;
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(DatabaseConfig.class)) {
+            TaskService taskService = context.getBean(TaskService.class);
+
+            drift = taskService.countTaskCounterDrift();
+            System.out.println("Counters differing from tasks: " + drift);
+
+            if (command.equals("rebuild")) {
+                int written = taskService.rebuildTaskCounters();
+                System.out.println("Rebuilt " + written + " counters");
+                drift = taskService.countTaskCounterDrift();
+                System.out.println("Counters differing from tasks after rebuild: " + drift);
+            }
+        }
+        System.exit(drift == 0 ? 0 : 1);
+    }
+}
@@ -6,19 +6,29 @@ import java.time.LocalDate;
 import org.springframework.jdbc.core.RowMapper;
 import com.task.Task_management.model.Project;
 
+// Reads by position: every query using this mapper selects COLUMNS, in this order
 public class ProjectRowMapper implements RowMapper<Project> {
     
+    public static final String COLUMNS = "id, name, description, startDate, endDate";
+    
+    private static final int ID = 1;
+    private static final int NAME = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int START_DATE = 4;
+    private static final int END_DATE = 5;
+    
     @Override
     public Project mapRow(ResultSet rs, int rowNum) throws SQLException {
         Project project = new Project();
         
         // Map all Project fields from database columns
-        project.setId(rs.getInt("id"));
-        project.setName(rs.getString("name"));
-        project.setDescription(rs.getString("description"));
-        project.setStartDate(rs.getObject("startDate", LocalDate.class));
-        project.setEndDate(rs.getObject("endDate", LocalDate.class));
+        project.setId(rs.getInt(ID));
+        project.setName(rs.getString(NAME));
+        project.setDescription(rs.getString(DESCRIPTION));
+        project.setStartDate(rs.getObject(START_DATE, LocalDate.class));
+        project.setEndDate(rs.getObject(END_DATE, LocalDate.class));
         
+        project.markClean();
         return project;
     }
 }
@@ -0,0 +1,26 @@
+package com.task.Task_management.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.task.Task_management.model.TaskCounts;
+
+public class TaskCountsRowMapper implements RowMapper<TaskCounts> {
+	
+	@Override
+	public TaskCounts mapRow(ResultSet rs, int rowNum) throws SQLException{
+		TaskCounts counts = new TaskCounts();
+		
+		counts.setTotal(rs.getLong("total"));
+		counts.setTodo(rs.getLong("todo"));
+		counts.setInProgress(rs.getLong("inProgress"));
+		counts.setCompleted(rs.getLong("completed"));
+		counts.setBlocked(rs.getLong("blocked"));
+		counts.setOverdue(rs.getLong("overdue"));
+		
+		return counts;
+	}
+	
+}
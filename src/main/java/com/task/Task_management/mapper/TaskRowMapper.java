@@ -7,22 +7,36 @@ import java.time.LocalDate;
 import org.springframework.jdbc.core.RowMapper;
 
 import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
 
+// Reads by position: every query using this mapper selects COLUMNS, in this order
 public class TaskRowMapper implements RowMapper<Task> {
 	
+	public static final String COLUMNS = "id, name, description, status, priority, dueDate, projectId, userId";
+	
+	private static final int ID = 1;
+	private static final int NAME = 2;
+	private static final int DESCRIPTION = 3;
+	private static final int STATUS = 4;
+	private static final int PRIORITY = 5;
+	private static final int DUE_DATE = 6;
+	private static final int PROJECT_ID = 7;
+	private static final int USER_ID = 8;
+	
 	@Override
-	public Task mapRow(ResultSet rs, int rowNum) throws SQLException{
+	public Task mapRow(ResultSet rs, int rowNum) throws SQLException {
 		Task task = new Task();
 		
-		task.setId(rs.getInt("id"));
-		task.setName(rs.getString("name"));
-		task.setDescription(rs.getString("description"));
-		task.setStatus(rs.getString("status"));
-		task.setPriority(rs.getInt("priority"));
-		task.setDueDate(rs.getObject("dueDate", LocalDate.class));
-		task.setProjectId(rs.getInt("projectId"));
-		task.setUserId(rs.getInt("userId"));
+		task.setId(rs.getInt(ID));
+		task.setName(rs.getString(NAME));
+		task.setDescription(rs.getString(DESCRIPTION));
+		task.setStatus(TaskStatus.fromCode(rs.getShort(STATUS)));
+		task.setPriority(rs.getInt(PRIORITY));
+		task.setDueDate(rs.getObject(DUE_DATE, LocalDate.class));
+		task.setProjectId(rs.getInt(PROJECT_ID));
+		task.setUserId(rs.getInt(USER_ID));
 		
+		task.markClean();
 		return task;
 	}
 	
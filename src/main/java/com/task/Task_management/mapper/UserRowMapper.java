@@ -6,18 +6,28 @@ import java.sql.SQLException;
 import org.springframework.jdbc.core.RowMapper;
 
 import com.task.Task_management.model.User;
+import com.task.Task_management.model.UserRole;
 
+// Reads by position: every query using this mapper selects COLUMNS, in this order
 public class UserRowMapper implements RowMapper<User> {
 	
+	public static final String COLUMNS = "id, username, email, role";
+	
+	private static final int ID = 1;
+	private static final int USERNAME = 2;
+	private static final int EMAIL = 3;
+	private static final int ROLE = 4;
+	
 	@Override
-	public User mapRow(ResultSet rs, int rowNum) throws SQLException{
+	public User mapRow(ResultSet rs, int rowNum) throws SQLException {
 		User user = new User();
 		
-		user.setId(rs.getInt("id"));
-		user.setUsername(rs.getString("username"));
-		user.setEmail(rs.getString("email"));
-		user.setRole(rs.getString("role"));
+		user.setId(rs.getInt(ID));
+		user.setUsername(rs.getString(USERNAME));
+		user.setEmail(rs.getString(EMAIL));
+		user.setRole(UserRole.fromCode(rs.getShort(ROLE)));
 		
+		user.markClean();
 		return user;
 	}
 	
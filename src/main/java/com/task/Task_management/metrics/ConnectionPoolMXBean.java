@@ -0,0 +1,27 @@
+package com.task.Task_management.metrics;
+
+// JMX view of the HikariCP pool: current occupancy plus connection acquisition latency in microseconds
+public interface ConnectionPoolMXBean {
+
+    int getActiveConnections();
+
+    int getIdleConnections();
+
+    int getPendingThreads();
+
+    int getTotalConnections();
+
+    int getMaxConnections();
+
+    long getConnectionTimeouts();
+
+    long getAcquireCount();
+
+    double getAcquireP50Micros();
+
+    double getAcquireP99Micros();
+
+    double getAcquireP999Micros();
+
+    double getAcquireMaxMicros();
+}
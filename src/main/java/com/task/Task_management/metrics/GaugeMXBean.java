@@ -0,0 +1,7 @@
+package com.task.Task_management.metrics;
+
+// JMX view of a single value sampled when read
+public interface GaugeMXBean {
+
+    long getValue();
+}
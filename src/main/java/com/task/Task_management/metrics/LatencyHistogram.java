@@ -0,0 +1,108 @@
+package com.task.Task_management.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear latency histogram in nanoseconds. Values below 64 ns get their own bucket;
+// every power of two above that is split into 32 buckets, so a reported percentile is
+// within about 3% of the recorded value. Recording is a handful of atomic increments on
+// preallocated counters: no locks and no allocation, cheap enough to leave on permanently.
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Covers up to 2^42 ns (about 73 minutes); longer values land in the last bucket
+    private static final int MAX_SHIFT = 42 - SUB_BUCKET_BITS - 1;
+    private static final int BUCKET_COUNT = (MAX_SHIFT + 2) * SUB_BUCKETS;
+    private static final long MAX_TRACKABLE = (1L << (MAX_SHIFT + SUB_BUCKET_BITS + 1)) - 1;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        long value = nanos < 0 ? 0 : Math.min(nanos, MAX_TRACKABLE);
+        buckets.incrementAndGet(bucketIndex(value));
+        totalNanos.add(value);
+
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    // A failed call is recorded with its latency and also counted as an error
+    public void recordError(long nanos) {
+        errors.increment();
+        record(nanos);
+    }
+
+    // Counters are read one by one, so a snapshot taken under load may be off by the
+    // few calls that completed while it was being copied
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        long max = maxNanos.get();
+        return new LatencySnapshot(name, count, errors.sum(), totalNanos.sum(), max,
+                Math.min(valueAtQuantile(counts, count, 0.50), max),
+                Math.min(valueAtQuantile(counts, count, 0.99), max),
+                Math.min(valueAtQuantile(counts, count, 0.999), max));
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        totalNanos.reset();
+        errors.reset();
+        maxNanos.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    // Largest value that falls into the bucket, so percentiles never under-report
+    static long highestValueInBucket(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static long valueAtQuantile(long[] counts, long count, double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestValueInBucket(i);
+            }
+        }
+        return highestValueInBucket(counts.length - 1);
+    }
+}
@@ -0,0 +1,21 @@
+package com.task.Task_management.metrics;
+
+// JMX view of one latency histogram; latencies in microseconds
+public interface LatencyMXBean {
+
+    long getCount();
+
+    long getErrors();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+
+    void reset();
+}
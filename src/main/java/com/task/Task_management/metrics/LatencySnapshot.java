@@ -0,0 +1,58 @@
+package com.task.Task_management.metrics;
+
+// Point-in-time view of a LatencyHistogram, all latencies in nanoseconds
+public class LatencySnapshot {
+
+    private final String name;
+    private final long count;
+    private final long errors;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+
+    LatencySnapshot(String name, long count, long errors, long totalNanos, long maxNanos,
+                    long p50Nanos, long p99Nanos, long p999Nanos) {
+        this.name = name;
+        this.count = count;
+        this.errors = errors;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getMeanNanos() {
+        return count > 0 ? totalNanos / count : 0;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+}
@@ -0,0 +1,100 @@
+package com.task.Task_management.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Times every public method of the application's @Repository and @Service beans into a
+// LatencyHistogram named after the class, method and parameter types. Disabled with
+// metrics.enabled=false. The histogram for a method is looked up once and cached by Method,
+// so a call costs two nanoTime reads and the histogram's atomic increments.
+@Component
+public class MethodMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor implements EnvironmentAware {
+
+    private static final String APPLICATION_PACKAGE = "com.task.Task_management.";
+
+    @Autowired
+    private MetricsRegistry registry;
+
+    private boolean enabled = true;
+
+    public MethodMetricsPostProcessor() {
+        ClassFilter applicationBeans = type -> type.getName().startsWith(APPLICATION_PACKAGE)
+                && (AnnotatedElementUtils.hasAnnotation(type, Repository.class)
+                    || AnnotatedElementUtils.hasAnnotation(type, Service.class));
+        Pointcut pointcut = new ComposablePointcut(applicationBeans, new PublicMethodMatcher());
+        this.advisor = new DefaultPointcutAdvisor(pointcut, new TimingInterceptor());
+        // Run outside any transaction advice, so the timing includes commit
+        this.beforeExistingAdvisors = true;
+        setProxyTargetClass(true);
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.enabled = environment.getProperty("metrics.enabled", Boolean.class, true);
+    }
+
+    @Override
+    protected boolean isEligible(Class<?> targetClass) {
+        return enabled && super.isEligible(targetClass);
+    }
+
+    private static class PublicMethodMatcher extends StaticMethodMatcher {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+        }
+    }
+
+    private class TimingInterceptor implements MethodInterceptor {
+        private final Map<Method, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            LatencyHistogram histogram = histograms.get(invocation.getMethod());
+            if (histogram == null) {
+                histogram = histograms.computeIfAbsent(invocation.getMethod(), method -> registry.histogram(name(method)));
+            }
+
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                histogram.record(System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                histogram.recordError(System.nanoTime() - start);
+                throw e;
+            }
+        }
+
+        private String name(Method method) {
+            StringBuilder name = new StringBuilder(method.getDeclaringClass().getSimpleName())
+                    .append('.').append(method.getName()).append('(');
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (i > 0) {
+                    name.append(", ");
+                }
+                name.append(parameterTypes[i].getSimpleName());
+            }
+            return name.append(')').toString();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.task.Task_management.metrics;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+// Owns the method latency histograms, gauges and connection pool metrics, publishes each one
+// as an MBean under the com.task.Task_management domain and renders them as text.
+@Component
+public class MetricsRegistry implements DisposableBean {
+
+    static final String JMX_DOMAIN = "com.task.Task_management";
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentSkipListMap<>();
+    private final List<PoolMetrics> pools = new CopyOnWriteArrayList<>();
+    private final Map<ObjectName, Object> registeredBeans = new ConcurrentHashMap<>();
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    // Creates the histogram and its MBean on first use; callers keep the returned instance
+    public LatencyHistogram histogram(String name) {
+        LatencyHistogram histogram = histograms.get(name);
+        if (histogram != null) {
+            return histogram;
+        }
+        return histograms.computeIfAbsent(name, key -> {
+            LatencyHistogram created = new LatencyHistogram(key);
+            register("type=Latency,name=" + ObjectName.quote(key), new LatencyBean(created));
+            return created;
+        });
+    }
+
+    // Publishes a value read on demand, such as a queue depth; a gauge with the same name is replaced
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+        register("type=Gauge,name=" + ObjectName.quote(name), new GaugeBean(value));
+    }
+
+    public Collection<LatencyHistogram> getHistograms() {
+        return histograms.values();
+    }
+
+    public List<PoolMetrics> getPools() {
+        return pools;
+    }
+
+    void addPool(PoolMetrics pool) {
+        pools.add(pool);
+        register("type=ConnectionPool,name=" + ObjectName.quote(pool.getPoolName()), pool);
+    }
+
+    void removePool(PoolMetrics pool) {
+        pools.remove(pool);
+        unregister("type=ConnectionPool,name=" + ObjectName.quote(pool.getPoolName()));
+    }
+
+    // One line per pool and gauge, then one per histogram that has recorded at least once
+    public String dump() {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, LongSupplier> gauge : gauges.entrySet()) {
+            text.append("gauge ").append(gauge.getKey()).append(": ").append(gauge.getValue().getAsLong())
+                    .append(System.lineSeparator());
+        }
+        for (PoolMetrics pool : pools) {
+            LatencySnapshot acquire = pool.getAcquireHistogram().snapshot();
+            text.append(String.format(Locale.ROOT,
+                    "pool %s: active=%d idle=%d pending=%d total=%d max=%d timeouts=%d acquire p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus%n",
+                    pool.getPoolName(), pool.getActiveConnections(), pool.getIdleConnections(), pool.getPendingThreads(),
+                    pool.getTotalConnections(), pool.getMaxConnections(), pool.getConnectionTimeouts(),
+                    micros(acquire.getP50Nanos()), micros(acquire.getP99Nanos()), micros(acquire.getP999Nanos()),
+                    micros(acquire.getMaxNanos())));
+        }
+
+        List<LatencySnapshot> snapshots = new ArrayList<>();
+        for (LatencyHistogram histogram : histograms.values()) {
+            LatencySnapshot snapshot = histogram.snapshot();
+            if (snapshot.getCount() > 0) {
+                snapshots.add(snapshot);
+            }
+        }
+        if (!snapshots.isEmpty()) {
+            text.append(String.format(Locale.ROOT, "%-60s %10s %8s %10s %10s %10s %10s %10s%n",
+                    "name", "count", "errors", "mean_us", "p50_us", "p99_us", "p999_us", "max_us"));
+            for (LatencySnapshot snapshot : snapshots) {
+                text.append(String.format(Locale.ROOT, "%-60s %10d %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                        snapshot.getName(), snapshot.getCount(), snapshot.getErrors(), micros(snapshot.getMeanNanos()),
+                        micros(snapshot.getP50Nanos()), micros(snapshot.getP99Nanos()), micros(snapshot.getP999Nanos()),
+                        micros(snapshot.getMaxNanos())));
+            }
+        }
+        return text.toString();
+    }
+
+    @Override
+    public void destroy() {
+        for (ObjectName name : registeredBeans.keySet()) {
+            unregister(name);
+        }
+    }
+
+    static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    // A bean left behind by an earlier context in the same JVM is replaced
+    private void register(String keys, Object bean) {
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":" + keys);
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+            mBeanServer.registerMBean(bean, name);
+            registeredBeans.put(name, bean);
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register MBean " + keys, e);
+        }
+    }
+
+    private void unregister(String keys) {
+        try {
+            unregister(new ObjectName(JMX_DOMAIN + ":" + keys));
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not unregister MBean " + keys, e);
+        }
+    }
+
+    private void unregister(ObjectName name) {
+        if (registeredBeans.remove(name) == null) {
+            return;
+        }
+        try {
+            mBeanServer.unregisterMBean(name);
+        } catch (JMException e) {
+            // Already gone
+        }
+    }
+
+    private static class GaugeBean implements GaugeMXBean {
+        private final LongSupplier value;
+
+        GaugeBean(LongSupplier value) {
+            this.value = value;
+        }
+
+        @Override
+        public long getValue() {
+            return value.getAsLong();
+        }
+    }
+
+    private static class LatencyBean implements LatencyMXBean {
+        private final LatencyHistogram histogram;
+
+        LatencyBean(LatencyHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public long getCount() {
+            return histogram.snapshot().getCount();
+        }
+
+        @Override
+        public long getErrors() {
+            return histogram.snapshot().getErrors();
+        }
+
+        @Override
+        public double getMeanMicros() {
+            return micros(histogram.snapshot().getMeanNanos());
+        }
+
+        @Override
+        public double getP50Micros() {
+            return micros(histogram.snapshot().getP50Nanos());
+        }
+
+        @Override
+        public double getP99Micros() {
+            return micros(histogram.snapshot().getP99Nanos());
+        }
+
+        @Override
+        public double getP999Micros() {
+            return micros(histogram.snapshot().getP999Nanos());
+        }
+
+        @Override
+        public double getMaxMicros() {
+            return micros(histogram.snapshot().getMaxNanos());
+        }
+
+        @Override
+        public void reset() {
+            histogram.reset();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.task.Task_management.metrics;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Writes MetricsRegistry.dump() to the platform logger every metrics.dump.interval-seconds (0 turns it off)
+@Component
+public class MetricsReporter implements InitializingBean, DisposableBean {
+
+    private static final System.Logger LOGGER = System.getLogger(MetricsReporter.class.getName());
+
+    @Autowired
+    private MetricsRegistry registry;
+
+    @Value("${metrics.dump.interval-seconds:60}")
+    private long intervalSeconds;
+
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public void report() {
+        String dump = registry.dump();
+        if (!dump.isEmpty()) {
+            LOGGER.log(System.Logger.Level.INFO, "Metrics\n" + dump);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
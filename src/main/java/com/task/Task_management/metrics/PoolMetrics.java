@@ -0,0 +1,110 @@
+package com.task.Task_management.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// HikariCP callback for one pool. Hikari calls it on every connection checkout, so the
+// acquisition latency goes straight into a LatencyHistogram; occupancy is read from PoolStats.
+public class PoolMetrics implements IMetricsTracker, ConnectionPoolMXBean {
+
+    private final MetricsRegistry registry;
+    private final String poolName;
+    private final PoolStats poolStats;
+    private final LatencyHistogram acquireHistogram;
+    private final LatencyHistogram usageHistogram;
+    private final LongAdder connectionTimeouts = new LongAdder();
+
+    PoolMetrics(MetricsRegistry registry, String poolName, PoolStats poolStats) {
+        this.registry = registry;
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        this.acquireHistogram = registry.histogram("pool." + poolName + ".acquire");
+        this.usageHistogram = registry.histogram("pool." + poolName + ".usage");
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public LatencyHistogram getAcquireHistogram() {
+        return acquireHistogram;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquireHistogram.record(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usageHistogram.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        connectionTimeouts.increment();
+    }
+
+    @Override
+    public void close() {
+        registry.removePool(this);
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return poolStats.getActiveConnections();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return poolStats.getIdleConnections();
+    }
+
+    @Override
+    public int getPendingThreads() {
+        return poolStats.getPendingThreads();
+    }
+
+    @Override
+    public int getTotalConnections() {
+        return poolStats.getTotalConnections();
+    }
+
+    @Override
+    public int getMaxConnections() {
+        return poolStats.getMaxConnections();
+    }
+
+    @Override
+    public long getConnectionTimeouts() {
+        return connectionTimeouts.sum();
+    }
+
+    @Override
+    public long getAcquireCount() {
+        return acquireHistogram.snapshot().getCount();
+    }
+
+    @Override
+    public double getAcquireP50Micros() {
+        return MetricsRegistry.micros(acquireHistogram.snapshot().getP50Nanos());
+    }
+
+    @Override
+    public double getAcquireP99Micros() {
+        return MetricsRegistry.micros(acquireHistogram.snapshot().getP99Nanos());
+    }
+
+    @Override
+    public double getAcquireP999Micros() {
+        return MetricsRegistry.micros(acquireHistogram.snapshot().getP999Nanos());
+    }
+
+    @Override
+    public double getAcquireMaxMicros() {
+        return MetricsRegistry.micros(acquireHistogram.snapshot().getMaxNanos());
+    }
+}
@@ -0,0 +1,22 @@
+package com.task.Task_management.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+// Plugged into HikariConfig so each pool reports into the MetricsRegistry
+public class PoolMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final MetricsRegistry registry;
+
+    public PoolMetricsTrackerFactory(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        PoolMetrics pool = new PoolMetrics(registry, poolName, poolStats);
+        registry.addPool(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,5 @@
+package com.task.Task_management.migration;
+
+// One versioned script from database/migration, named V<version>__<description>.sql
+public record Migration(int version, String description, String script, long checksum) {
+}
@@ -0,0 +1,184 @@
+package com.task.Task_management.migration;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+// Applies the classpath scripts database/migration/V<version>__<description>.sql in version
+// order and records each in schema_version with a CRC32 of its text. Every script runs in its
+// own transaction under an advisory lock, so instances starting together apply it once.
+// A recorded script whose text has since changed stops the startup instead of being re-run.
+public class SchemaMigrator {
+
+    private static final System.Logger LOGGER = System.getLogger(SchemaMigrator.class.getName());
+
+    private static final String LOCATION = "classpath*:database/migration/V*__*.sql";
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+
+    // Arbitrary key of the advisory lock held while a migration runs
+    private static final long LOCK_KEY = 0x7461736b_6d696772L;
+
+    private static final String HISTORY_SQL = "create table if not exists schema_version ("
+            + "version int primary key, "
+            + "description varchar(200) not null, "
+            + "checksum bigint not null, "
+            + "applied_at timestamp not null default now(), "
+            + "execution_millis int not null)";
+
+    private final DataSource dataSource;
+
+    public SchemaMigrator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // Returns the number of scripts applied by this call
+    public int migrate() {
+        List<Migration> migrations = findMigrations();
+        int applied = 0;
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(HISTORY_SQL);
+                }
+                connection.commit();
+
+                validate(migrations, appliedChecksums(connection));
+                for (Migration migration : migrations) {
+                    if (apply(connection, migration)) {
+                        applied++;
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Schema migration failed: " + e.getMessage(), e);
+        }
+        return applied;
+    }
+
+    // The scripts on the classpath, ordered by version
+    public List<Migration> findMigrations() {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver().getResources(LOCATION);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Map<Integer, Migration> byVersion = new HashMap<>();
+        for (Resource resource : resources) {
+            Migration migration = read(resource);
+            Migration duplicate = byVersion.put(migration.version(), migration);
+            if (duplicate != null) {
+                throw new IllegalStateException("Two migrations with version " + migration.version() + ": "
+                        + duplicate.description() + ", " + migration.description());
+            }
+        }
+
+        List<Migration> migrations = new ArrayList<>(byVersion.values());
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        return migrations;
+    }
+
+    // Runs the script unless another instance applied it while we waited for the lock
+    private boolean apply(Connection connection, Migration migration) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("select pg_advisory_xact_lock(" + LOCK_KEY + ")");
+        }
+        if (appliedChecksums(connection).containsKey(migration.version())) {
+            connection.commit();
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(migration.script());
+        } catch (SQLException e) {
+            throw new SQLException("V" + migration.version() + "__" + migration.description() + ": " + e.getMessage(),
+                    e.getSQLState(), e);
+        }
+        int millis = (int) ((System.nanoTime() - start) / 1_000_000);
+
+        String sql = "insert into schema_version (version, description, checksum, execution_millis) values (?, ?, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setInt(1, migration.version());
+            ps.setString(2, migration.description());
+            ps.setLong(3, migration.checksum());
+            ps.setInt(4, millis);
+            ps.executeUpdate();
+        }
+        connection.commit();
+
+        LOGGER.log(System.Logger.Level.INFO, "Applied migration V" + migration.version() + "__"
+                + migration.description() + " in " + millis + " ms");
+        return true;
+    }
+
+    private static Map<Integer, Long> appliedChecksums(Connection connection) throws SQLException {
+        Map<Integer, Long> checksums = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select version, checksum from schema_version")) {
+            while (rs.next()) {
+                checksums.put(rs.getInt(1), rs.getLong(2));
+            }
+        }
+        return checksums;
+    }
+
+    static void validate(List<Migration> migrations, Map<Integer, Long> appliedChecksums) {
+        for (Migration migration : migrations) {
+            Long checksum = appliedChecksums.get(migration.version());
+            if (checksum != null && checksum != migration.checksum()) {
+                throw new IllegalStateException("Migration V" + migration.version() + "__" + migration.description()
+                        + " was changed after it was applied; add a new migration instead");
+            }
+        }
+    }
+
+    static Migration read(Resource resource) {
+        Matcher matcher = FILE_NAME.matcher(String.valueOf(resource.getFilename()));
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Migration file name must be V<version>__<description>.sql: "
+                    + resource.getFilename());
+        }
+
+        String script;
+        try {
+            script = resource.getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2), script, checksum(script));
+    }
+
+    // CRC32 of the script with line endings normalized, so a checkout on Windows gives the same value
+    static long checksum(String script) {
+        CRC32 crc = new CRC32();
+        crc.update(script.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
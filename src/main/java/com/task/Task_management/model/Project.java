@@ -1,6 +1,9 @@
 package com.task.Task_management.model;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 
 public class Project {
 	private int id;
@@ -9,6 +12,12 @@ public class Project {
 	private LocalDate startDate;
 	private LocalDate endDate;
 	
+	// Columns an update has to write. Tracking starts when a DAO loads or writes the entity
+	// (markClean); until then every column counts as changed.
+	public enum Field { NAME, DESCRIPTION, START_DATE, END_DATE }
+	
+	private EnumSet<Field> changedFields;
+	
 	public Project() {
 		
 	}
@@ -20,6 +29,15 @@ public class Project {
 		this.endDate = endDate;
 	}
 	
+	public Project(Project other) {
+		this.id = other.id;
+		this.name = other.name;
+		this.description = other.description;
+		this.startDate = other.startDate;
+		this.endDate = other.endDate;
+		this.changedFields = other.changedFields == null ? null : EnumSet.copyOf(other.changedFields);
+	}
+	
 	public int getId() {
 		return id;
 	}
@@ -30,25 +48,57 @@ public class Project {
 		return name;
 	}
 	public void setName(String name) {
+		if (!Objects.equals(this.name, name)) {
+			changed(Field.NAME);
+		}
 		this.name = name;
 	}
 	public String getDescription() {
 		return description;
 	}
 	public void setDescription(String description) {
+		if (!Objects.equals(this.description, description)) {
+			changed(Field.DESCRIPTION);
+		}
 		this.description = description;
 	}
 	public LocalDate getStartDate() {
 		return startDate;
 	}
 	public void setStartDate(LocalDate startDate) {
+		if (!Objects.equals(this.startDate, startDate)) {
+			changed(Field.START_DATE);
+		}
 		this.startDate = startDate;
 	}
 	public LocalDate getEndDate() {
 		return endDate;
 	}
 	public void setEndDate(LocalDate endDate) {
+		if (!Objects.equals(this.endDate, endDate)) {
+			changed(Field.END_DATE);
+		}
 		this.endDate = endDate;
 	}
 	
+	// Starts tracking from the current state; called once the entity matches its row
+	public void markClean() {
+		changedFields = EnumSet.noneOf(Field.class);
+	}
+	
+	public boolean isTracked() {
+		return changedFields != null;
+	}
+	
+	// Changed columns since markClean, or all of them for an entity that is not tracked
+	public Set<Field> getChangedFields() {
+		return changedFields == null ? EnumSet.allOf(Field.class) : EnumSet.copyOf(changedFields);
+	}
+	
+	private void changed(Field field) {
+		if (changedFields != null) {
+			changedFields.add(field);
+		}
+	}
+	
 }
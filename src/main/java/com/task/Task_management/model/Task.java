@@ -1,31 +1,52 @@
 package com.task.Task_management.model;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 
 public class Task {
 	private int id;
 	private String name;
 	private String description;
-	private String status;
+	private TaskStatus status;
 	private int priority;
 	private LocalDate dueDate;
 	private int ProjectId;
 	private int userId;
 	
+	// Columns an update has to write. Tracking starts when a DAO loads or writes the entity
+	// (markClean); until then every column counts as changed.
+	public enum Field { NAME, DESCRIPTION, STATUS, PRIORITY, DUE_DATE, PROJECT_ID, USER_ID }
+	
+	private EnumSet<Field> changedFields;
+	
 	public Task() {
 		
 	}
 	
-	public Task(String name, String description, String status, int priority, LocalDate dueDate, int projectId, int userId) {
+	public Task(String name, String description, TaskStatus status, int priority, LocalDate dueDate, int projectId, int userId) {
 		this.name = name;
 		this.description = description;
 		this.status = status;
 		this.priority = priority;
 		this.dueDate = dueDate;
-		this.ProjectId = ProjectId;
+		this.ProjectId = projectId;
 		this.userId = userId;
 	}
 	
+	public Task(Task other) {
+		this.id = other.id;
+		this.name = other.name;
+		this.description = other.description;
+		this.status = other.status;
+		this.priority = other.priority;
+		this.dueDate = other.dueDate;
+		this.ProjectId = other.ProjectId;
+		this.userId = other.userId;
+		this.changedFields = other.changedFields == null ? null : EnumSet.copyOf(other.changedFields);
+	}
+	
 	public int getId() {
 		return id;
 	}
@@ -36,44 +57,84 @@ public class Task {
 		return name;
 	}
 	public void setName(String name) {
+		if (!Objects.equals(this.name, name)) {
+			changed(Field.NAME);
+		}
 		this.name = name;
 	}
 	public String getDescription() {
 		return description;
 	}
 	public void setDescription(String description) {
+		if (!Objects.equals(this.description, description)) {
+			changed(Field.DESCRIPTION);
+		}
 		this.description = description;
 	}
-	public String getStatus() {
+	public TaskStatus getStatus() {
 		return status;
 	}
-	public void setStatus(String status) {
+	public void setStatus(TaskStatus status) {
+		if (this.status != status) {
+			changed(Field.STATUS);
+		}
 		this.status = status;
 	}
 	public int getPriority() {
 		return priority;
 	}
 	public void setPriority(int priority) {
+		if (this.priority != priority) {
+			changed(Field.PRIORITY);
+		}
 		this.priority = priority;
 	}
 	public LocalDate getDueDate() {
 		return dueDate;
 	}
 	public void setDueDate(LocalDate dueDate) {
+		if (!Objects.equals(this.dueDate, dueDate)) {
+			changed(Field.DUE_DATE);
+		}
 		this.dueDate = dueDate;
 	}
 	public int getProjectId() {
 		return ProjectId;
 	}
 	public void setProjectId(int projectId) {
+		if (ProjectId != projectId) {
+			changed(Field.PROJECT_ID);
+		}
 		ProjectId = projectId;
 	}
 	public int getUserId() {
 		return userId;
 	}
 	public void setUserId(int userId) {
+		if (this.userId != userId) {
+			changed(Field.USER_ID);
+		}
 		this.userId = userId;
 	}
 	
+	// Starts tracking from the current state; called once the entity matches its row
+	public void markClean() {
+		changedFields = EnumSet.noneOf(Field.class);
+	}
+	
+	public boolean isTracked() {
+		return changedFields != null;
+	}
+	
+	// Changed columns since markClean, or all of them for an entity that is not tracked
+	public Set<Field> getChangedFields() {
+		return changedFields == null ? EnumSet.allOf(Field.class) : EnumSet.copyOf(changedFields);
+	}
+	
+	private void changed(Field field) {
+		if (changedFields != null) {
+			changedFields.add(field);
+		}
+	}
 	
 }
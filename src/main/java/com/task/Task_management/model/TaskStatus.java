@@ -0,0 +1,45 @@
+package com.task.Task_management.model;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Stored as a smallint code; codes are part of the schema and must never be renumbered
+public enum TaskStatus {
+	TODO(0),
+	IN_PROGRESS(1),
+	COMPLETED(2),
+	BLOCKED(3);
+
+	private static final TaskStatus[] BY_CODE = new TaskStatus[values().length];
+	private static final Map<String, TaskStatus> BY_NAME = new HashMap<>();
+
+	static {
+		for (TaskStatus status : values()) {
+			BY_CODE[status.code] = status;
+			BY_NAME.put(status.name(), status);
+		}
+	}
+
+	private final short code;
+
+	TaskStatus(int code) {
+		this.code = (short) code;
+	}
+
+	public short getCode() {
+		return code;
+	}
+
+	public static TaskStatus fromCode(int code) {
+		if (code < 0 || code >= BY_CODE.length) {
+			throw new IllegalArgumentException("Unknown task status code: " + code);
+		}
+		return BY_CODE[code];
+	}
+
+	// Case-insensitive name lookup, null when the name is not a status
+	public static TaskStatus fromName(String name) {
+		return name != null ? BY_NAME.get(name.trim().toUpperCase(Locale.ROOT)) : null;
+	}
+}
@@ -1,20 +1,38 @@
 package com.task.Task_management.model;
 
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
 public class User {
 	private int id;
 	private String username;
 	private String email;
-	private String role;
+	private UserRole role;
+	
+	// Columns an update has to write. Tracking starts when a DAO loads or writes the entity
+	// (markClean); until then every column counts as changed.
+	public enum Field { USERNAME, EMAIL, ROLE }
+	
+	private EnumSet<Field> changedFields;
 	
 	public User() {
 		
 	}
 	
-	public User(String username, String email, String role) {
+	public User(String username, String email, UserRole role) {
 		this.username = username;
 		this.email = email;
 		this.role = role;
 	}
+	
+	public User(User other) {
+		this.id = other.id;
+		this.username = other.username;
+		this.email = other.email;
+		this.role = other.role;
+		this.changedFields = other.changedFields == null ? null : EnumSet.copyOf(other.changedFields);
+	}
 
 	
 	public int getId() {
@@ -27,19 +45,48 @@ public class User {
 		return username;
 	}
 	public void setUsername(String username) {
+		if (!Objects.equals(this.username, username)) {
+			changed(Field.USERNAME);
+		}
 		this.username = username;
 	}
 	public String getEmail() {
 		return email;
 	}
 	public void setEmail(String email) {
+		if (!Objects.equals(this.email, email)) {
+			changed(Field.EMAIL);
+		}
 		this.email = email;
 	}
-	public String getRole() {
+	public UserRole getRole() {
 		return role;
 	}
-	public void setRole(String role) {
+	public void setRole(UserRole role) {
+		if (this.role != role) {
+			changed(Field.ROLE);
+		}
 		this.role = role;
 	}
 	
+	// Starts tracking from the current state; called once the entity matches its row
+	public void markClean() {
+		changedFields = EnumSet.noneOf(Field.class);
+	}
+	
+	public boolean isTracked() {
+		return changedFields != null;
+	}
+	
+	// Changed columns since markClean, or all of them for an entity that is not tracked
+	public Set<Field> getChangedFields() {
+		return changedFields == null ? EnumSet.allOf(Field.class) : EnumSet.copyOf(changedFields);
+	}
+	
+	private void changed(Field field) {
+		if (changedFields != null) {
+			changedFields.add(field);
+		}
+	}
+	
 }
@@ -0,0 +1,44 @@
+package com.task.Task_management.model;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Stored as a smallint code; codes are part of the schema and must never be renumbered
+public enum UserRole {
+	ADMIN(0),
+	USER(1),
+	MANAGER(2);
+
+	private static final UserRole[] BY_CODE = new UserRole[values().length];
+	private static final Map<String, UserRole> BY_NAME = new HashMap<>();
+
+	static {
+		for (UserRole role : values()) {
+			BY_CODE[role.code] = role;
+			BY_NAME.put(role.name(), role);
+		}
+	}
+
+	private final short code;
+
+	UserRole(int code) {
+		this.code = (short) code;
+	}
+
+	public short getCode() {
+		return code;
+	}
+
+	public static UserRole fromCode(int code) {
+		if (code < 0 || code >= BY_CODE.length) {
+			throw new IllegalArgumentException("Unknown user role code: " + code);
+		}
+		return BY_CODE[code];
+	}
+
+	// Case-insensitive name lookup, null when the name is not a role
+	public static UserRole fromName(String name) {
+		return name != null ? BY_NAME.get(name.trim().toUpperCase(Locale.ROOT)) : null;
+	}
+}
@@ -0,0 +1,241 @@
+package com.task.Task_management.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory trigram inverted index for case-insensitive substring search.
+// Every 3-character window of an indexed text points back to the ids containing it, so a
+// search only verifies the ids under the pattern's rarest trigram. Matches are ranked
+// by trigram similarity (shared / total distinct padded trigrams, as pg_trgm does).
+public class TrigramIndex<T> {
+
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final Map<Integer, Document<T>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Adds or replaces the text indexed for this id
+    public void put(int id, String text, T value) {
+        Document<T> document = new Document<>(id, normalize(text), value);
+        lock.writeLock().lock();
+        try {
+            Document<T> previous = documents.put(id, document);
+            if (previous != null) {
+                removePostings(previous);
+            }
+            for (long gram : substringGrams(document.text)) {
+                postings.computeIfAbsent(gram, key -> new IntList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            Document<T> previous = documents.remove(id);
+            if (previous != null) {
+                removePostings(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Values whose text contains the pattern, best match first; limit <= 0 means no limit
+    public List<T> search(String pattern, int limit) {
+        String query = normalize(pattern);
+        long[] queryGrams = similarityGrams(query);
+        List<Hit<T>> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            long[] grams = substringGrams(query);
+            if (grams.length == 0) {
+                // Patterns shorter than a trigram cannot use the postings
+                for (Document<T> document : documents.values()) {
+                    addIfMatches(hits, document, query, queryGrams);
+                }
+            } else {
+                IntList rarest = rarestPosting(grams);
+                for (int i = 0; rarest != null && i < rarest.size; i++) {
+                    addIfMatches(hits, documents.get(rarest.values[i]), query, queryGrams);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort((a, b) -> {
+            int bySimilarity = Double.compare(b.similarity, a.similarity);
+            return bySimilarity != 0 ? bySimilarity : Integer.compare(a.document.id, b.document.id);
+        });
+
+        int size = limit > 0 ? Math.min(limit, hits.size()) : hits.size();
+        List<T> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(hits.get(i).document.value);
+        }
+        return results;
+    }
+
+    // Every real match is in the posting list of each of the pattern's trigrams, so the
+    // shortest one is enough; the contains() check drops ids that only share trigrams.
+    private IntList rarestPosting(long[] grams) {
+        IntList rarest = null;
+        for (long gram : grams) {
+            IntList ids = postings.get(gram);
+            if (ids == null) {
+                return null;
+            }
+            if (rarest == null || ids.size < rarest.size) {
+                rarest = ids;
+            }
+        }
+        return rarest;
+    }
+
+    private static <T> void addIfMatches(List<Hit<T>> hits, Document<T> document, String query, long[] queryGrams) {
+        if (document.text.contains(query)) {
+            hits.add(new Hit<>(document, similarity(queryGrams, document.similarityGrams)));
+        }
+    }
+
+    private void removePostings(Document<T> document) {
+        for (long gram : substringGrams(document.text)) {
+            IntList ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(document.id);
+                if (ids.size == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    // Distinct 3-character windows of the text itself
+    static long[] substringGrams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] grams = new long[text.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(text.charAt(i), text.charAt(i + 1), text.charAt(i + 2));
+        }
+        return distinctSorted(grams);
+    }
+
+    // Distinct trigrams of the text padded the way pg_trgm pads words
+    static long[] similarityGrams(String text) {
+        return substringGrams("  " + text + " ");
+    }
+
+    static double similarity(long[] a, long[] b) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int total = a.length + b.length - shared;
+        return total > 0 ? (double) shared / total : 0.0;
+    }
+
+    private static long gram(char first, char second, char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+
+    private static long[] distinctSorted(long[] grams) {
+        Arrays.sort(grams);
+        int unique = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return unique == grams.length ? grams : Arrays.copyOf(grams, unique);
+    }
+
+    // Unboxed posting list; ids are distinct because each document adds its distinct trigrams once
+    private static class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void remove(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private static class Document<T> {
+        final int id;
+        final String text;
+        final T value;
+        final long[] similarityGrams;
+
+        Document(int id, String text, T value) {
+            this.id = id;
+            this.text = text;
+            this.value = value;
+            this.similarityGrams = TrigramIndex.similarityGrams(text);
+        }
+    }
+
+    private static class Hit<T> {
+        final Document<T> document;
+        final double similarity;
+
+        Hit(Document<T> document, double similarity) {
+            this.document = document;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.task.Task_management.service;
+
+import com.task.Task_management.dao.Page;
+import com.task.Task_management.dao.TaskCriteria;
+import com.task.Task_management.loader.EntityLoaders;
+import com.task.Task_management.metrics.LatencyHistogram;
+import com.task.Task_management.metrics.MetricsRegistry;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+import com.task.Task_management.service.TaskService.TaskStatistics;
+import com.zaxxer.hikari.HikariConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// CompletableFuture variants of the TaskService operations. Each call runs on its own
+// virtual thread, so callers never block and waiting costs no platform thread. Before
+// touching the database a call takes a permit from a fair semaphore sized to the
+// connection pool, so a burst queues here in arrival order instead of piling onto
+// Hikari and timing out on connection acquisition. A permit stands for one connection:
+// a TaskService call never holds two at once, since outside a transaction JdbcTemplate
+// borrows one per statement and inside one every query, cursor streams and lazy index
+// reloads included, runs on the transaction's connection. The EntityLoaders batches,
+// which run on their own connections, are counted separately.
+@Service
+public class AsyncTaskService implements InitializingBean, DisposableBean {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MetricsRegistry metrics;
+
+    @Autowired
+    private EntityLoaders entityLoaders;
+
+    // 0 sizes the admission limit from the pool: maximumPoolSize minus async.pool-reserve
+    // and minus the connections of loader.max-concurrent-batches
+    @Value("${async.max-concurrency:0}")
+    private int maxConcurrency;
+
+    // Connections left for synchronous callers and scheduled jobs, so async load alone
+    // cannot exhaust the pool
+    @Value("${async.pool-reserve:2}")
+    private int poolReserve;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private ExecutorService executor;
+    private Semaphore permits;
+    private int permitCount;
+    private LatencyHistogram admissionWait;
+
+    @Override
+    public void afterPropertiesSet() {
+        permitCount = maxConcurrency > 0 ? maxConcurrency : Math.max(1, poolSize() - poolReserve - entityLoaders.getMaxConcurrentBatches());
+        permits = new Semaphore(permitCount, true);
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-async-", 0).factory());
+
+        admissionWait = metrics.histogram("AsyncTaskService.admissionWait");
+        metrics.gauge("AsyncTaskService.waiting", waiting::get);
+        metrics.gauge("AsyncTaskService.running", running::get);
+        metrics.gauge("AsyncTaskService.permits", () -> permitCount);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    public CompletableFuture<Task> createTaskAsync(Task task) {
+        return submit(service -> service.createTask(task));
+    }
+
+    public CompletableFuture<List<Task>> createTasksAsync(List<Task> tasks) {
+        return submit(service -> service.createTasks(tasks));
+    }
+
+    public CompletableFuture<Task> getTaskByIdAsync(int id) {
+        return submit(service -> service.getTaskById(id));
+    }
+
+    public CompletableFuture<Task> updateTaskAsync(Task task) {
+        return submit(service -> service.updateTask(task));
+    }
+
+    public CompletableFuture<Void> deleteTaskAsync(int id) {
+        return submit(service -> {
+            service.deleteTask(id);
+            return null;
+        });
+    }
+
+    public CompletableFuture<List<Task>> getTasksByProjectAsync(int projectId) {
+        return submit(service -> service.getTasksByProject(projectId));
+    }
+
+    public CompletableFuture<List<Task>> getTasksByUserAsync(int userId) {
+        return submit(service -> service.getTasksByUser(userId));
+    }
+
+    public CompletableFuture<List<Task>> getTasksByStatusAsync(TaskStatus status) {
+        return submit(service -> service.getTasksByStatus(status));
+    }
+
+    public CompletableFuture<List<Task>> findTasksAsync(TaskCriteria criteria) {
+        return submit(service -> service.findTasks(criteria));
+    }
+
+    public CompletableFuture<Page<Task>> getTaskPageAsync(TaskCriteria criteria, String pageToken, int pageSize) {
+        return submit(service -> service.getTaskPage(criteria, pageToken, pageSize));
+    }
+
+    public CompletableFuture<Task> updateTaskStatusAsync(int taskId, TaskStatus status) {
+        return submit(service -> service.updateTaskStatus(taskId, status));
+    }
+
+    public CompletableFuture<TaskStatistics> getProjectTaskStatisticsAsync(int projectId) {
+        return submit(service -> service.getProjectTaskStatistics(projectId));
+    }
+
+    public CompletableFuture<TaskStatistics> getUserTaskStatisticsAsync(int userId) {
+        return submit(service -> service.getUserTaskStatistics(userId));
+    }
+
+    // Any other TaskService call, under the same admission control
+    public <T> CompletableFuture<T> submit(Function<TaskService, T> call) {
+        return CompletableFuture.supplyAsync(() -> admit(call), executor);
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public int getRunning() {
+        return running.get();
+    }
+
+    public int getPermitCount() {
+        return permitCount;
+    }
+
+    private <T> T admit(Function<TaskService, T> call) {
+        long start = System.nanoTime();
+        waiting.incrementAndGet();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+        admissionWait.record(System.nanoTime() - start);
+
+        running.incrementAndGet();
+        try {
+            return call.apply(taskService);
+        } finally {
+            running.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    private int poolSize() {
+        if (dataSource instanceof HikariConfig hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        return 10;
+    }
+}
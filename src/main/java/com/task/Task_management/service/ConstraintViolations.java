@@ -0,0 +1,24 @@
+package com.task.Task_management.service;
+
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+
+// Reads the violated constraint name from a DataIntegrityViolationException, so
+// validation.mode=constraints can map it back to the exception the query checks throw
+final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    // Null when the driver did not report a constraint name
+    static String constraintName(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PSQLException psql) {
+                ServerErrorMessage message = psql.getServerErrorMessage();
+                return message != null ? message.getConstraint() : null;
+            }
+        }
+        return null;
+    }
+}
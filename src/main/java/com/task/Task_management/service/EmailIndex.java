@@ -0,0 +1,46 @@
+package com.task.Task_management.service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory normalized email -> user id index kept in step with UserService writes.
+// Lookups are lock-free; writes are synchronized so both maps always agree.
+class EmailIndex {
+
+    private final Map<String, Integer> idsByEmail = new ConcurrentHashMap<>();
+    private final Map<Integer, String> emailsById = new ConcurrentHashMap<>();
+
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    Integer findId(String email) {
+        return idsByEmail.get(normalize(email));
+    }
+
+    synchronized void put(int userId, String email) {
+        String normalized = normalize(email);
+        String previous = emailsById.put(userId, normalized);
+        if (previous != null && !previous.equals(normalized)) {
+            idsByEmail.remove(previous, userId);
+        }
+        idsByEmail.put(normalized, userId);
+    }
+
+    synchronized void remove(int userId) {
+        String previous = emailsById.remove(userId);
+        if (previous != null) {
+            idsByEmail.remove(previous, userId);
+        }
+    }
+
+    synchronized void clear() {
+        idsByEmail.clear();
+        emailsById.clear();
+    }
+
+    int size() {
+        return emailsById.size();
+    }
+}
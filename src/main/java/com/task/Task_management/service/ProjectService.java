@@ -1,17 +1,27 @@
 package com.task.Task_management.service;
 
+import com.task.Task_management.dao.Page;
 import com.task.Task_management.dao.ProjectDAO;
+import com.task.Task_management.dao.TaskCounterDAO;
+import com.task.Task_management.dao.TaskCounterDAO.Scope;
 import com.task.Task_management.dao.TaskDAO;
+import com.task.Task_management.dao.TransactionCallbacks;
 import com.task.Task_management.exception.InvalidProjectException;
 import com.task.Task_management.exception.ProjectNotFoundException;
 import com.task.Task_management.model.Project;
-import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskCounts;
+import com.task.Task_management.search.TrigramIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -23,6 +33,22 @@ public class ProjectService {
     @Autowired
     private TaskDAO taskDAO;
 
+    @Autowired
+    private TaskCounterDAO taskCounterDAO;
+
+    // "memory" searches the trigram index below, "database" pushes the search down to pg_trgm
+    @Value("${search.projects.mode:memory}")
+    private String searchMode;
+
+    // Trigram index over project names, loaded on the first in-memory search. A load reads into a
+    // fresh index without holding nameIndexLock; changes committed meanwhile are buffered and
+    // replayed on it when it is swapped in, so they are neither lost nor overwritten by the older
+    // rows the load read. nameIndexLock only guards in-memory swaps and changes.
+    private volatile TrigramIndex<Project> nameIndex = new TrigramIndex<>();
+    private final TaskChangeBuffer nameIndexChanges = new TaskChangeBuffer();
+    private final Object nameIndexLock = new Object();
+    private final ReentrantLock nameIndexLoad = new ReentrantLock();
+
     // Method 1: Get all projects
     public List<Project> getAllProjects() {
         return projectDAO.findAll();
@@ -49,6 +75,7 @@ public class ProjectService {
         // Save project and return with generated ID
         int generatedId = projectDAO.save(project);
         project.setId(generatedId);
+        indexName(new Project(project));
         return project;
     }
 
@@ -63,6 +90,7 @@ public class ProjectService {
         }
 
         projectDAO.update(project);
+        indexName(new Project(project));
         return project;
     }
 
@@ -77,15 +105,16 @@ public class ProjectService {
         }
 
         // Check if project has tasks
-        List<Task> projectTasks = taskDAO.findByProjectId(id);
-        if (!projectTasks.isEmpty()) {
+        int projectTaskCount = taskDAO.countTasksByProject(id);
+        if (projectTaskCount > 0) {
             String errorMessage = "Cannot delete project with existing tasks. " +
                     "Please delete all tasks first. Found " +
-                    projectTasks.size() + " tasks.";
+                    projectTaskCount + " tasks.";
             throw new InvalidProjectException(errorMessage);
         }
 
         projectDAO.deleteById(id);
+        TransactionCallbacks.afterCommit(() -> applyToNameIndex(() -> nameIndex.remove(id)));
     }
 
 
@@ -104,40 +133,40 @@ public class ProjectService {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        List<Project> allProjects = projectDAO.findAll();
-        return allProjects.stream()
-                .filter(project -> {
-                    LocalDate projectStart = project.getStartDate();
-                    LocalDate projectEnd = project.getEndDate();
-
-                    // Project overlaps with date range
-                    return projectStart.isBefore(endDate.plusDays(1)) &&
-                            (projectEnd == null || projectEnd.isAfter(startDate.minusDays(1)));
-                })
-                .toList();
+        try (Stream<Project> allProjects = projectDAO.streamAll()) {
+            return allProjects
+                    .filter(project -> {
+                        LocalDate projectStart = project.getStartDate();
+                        LocalDate projectEnd = project.getEndDate();
+
+                        // Project overlaps with date range
+                        return projectStart.isBefore(endDate.plusDays(1)) &&
+                                (projectEnd == null || projectEnd.isAfter(startDate.minusDays(1)));
+                    })
+                    .toList();
+        }
     }
 
     // Method 8: Get overdue projects
     public List<Project> getOverdueProjects() {
         LocalDate today = LocalDate.now();
-        List<Project> allProjects = projectDAO.findAll();
 
-        return allProjects.stream()
-                .filter(project -> project.getEndDate() != null &&
-                        project.getEndDate().isBefore(today))
-                .toList();
+        try (Stream<Project> allProjects = projectDAO.streamAll()) {
+            return allProjects
+                    .filter(project -> project.getEndDate() != null &&
+                            project.getEndDate().isBefore(today))
+                    .toList();
+        }
     }
 
     // Method 9: Get project statistics
     public ProjectStatistics getProjectStatistics(int projectId) {
         Project project = getProjectById(projectId); // This validates existence
 
-        List<Task> projectTasks = taskDAO.findByProjectId(projectId);
+        TaskCounts counts = taskCounterDAO.counts(Scope.PROJECT, projectId);
 
-        long totalTasks = projectTasks.size();
-        long completedTasks = projectTasks.stream()
-                .filter(task -> "COMPLETED".equalsIgnoreCase(task.getStatus()))
-                .count();
+        long totalTasks = counts.getTotal();
+        long completedTasks = counts.getCompleted();
         long pendingTasks = totalTasks - completedTasks;
 
         return new ProjectStatistics(
@@ -152,7 +181,7 @@ public class ProjectService {
 
     // Method 10: Check if project exists
     public boolean projectExists(int id) {
-        return projectDAO.findById(id) != null;
+        return projectDAO.existsById(id);
     }
 
     // Method 11: Count total projects
@@ -160,22 +189,123 @@ public class ProjectService {
         return projectDAO.countProjects();
     }
 
-    // Method 12: Search projects by name
+    // Method 12: Search projects by name (case-insensitive substring, best match first)
     public List<Project> searchProjectsByName(String namePattern) {
+        return searchProjectsByName(namePattern, 0);
+    }
+
+    // Same as above, returning at most limit projects (0 for no limit)
+    public List<Project> searchProjectsByName(String namePattern, int limit) {
         if (namePattern == null || namePattern.trim().isEmpty()) {
             throw new IllegalArgumentException("Search pattern cannot be null or empty");
         }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+
+        if ("database".equalsIgnoreCase(searchMode)) {
+            return projectDAO.searchByName(namePattern, limit);
+        }
 
-        List<Project> allProjects = projectDAO.findAll();
-        return allProjects.stream()
-                .filter(project -> project.getName().toLowerCase()
-                        .contains(namePattern.toLowerCase()))
+        loadNameIndex();
+        return nameIndex.search(namePattern, limit).stream()
+                .map(Project::new)
                 .toList();
     }
 
-    // Private validation methods
+    // Method 13: Get one page of projects ordered by id
+    public Page<Project> getProjectPage(String pageToken, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return projectDAO.findPage(pageToken, pageSize);
+    }
+
+    // Method 14: Bring cached projects up to date after writes made elsewhere (another node, a bulk
+    // load): re-reads the given projects into the name index, or with null drops everything
+    public void refreshProjects(Collection<Integer> projectIds) {
+        if (projectIds == null) {
+            projectDAO.getCache().clear();
+            dropNameIndex();
+            return;
+        }
+
+        for (int projectId : projectIds) {
+            projectDAO.getCache().invalidate(projectId);
+        }
+        if (nameIndexChanges.isLoaded()) {
+            Map<Integer, Project> projects = projectDAO.findByIds(projectIds);
+            applyToNameIndex(() -> {
+                for (int projectId : projectIds) {
+                    Project project = projects.get(projectId);
+                    if (project != null) {
+                        nameIndex.put(projectId, project.getName(), project);
+                    } else {
+                        nameIndex.remove(projectId);
+                    }
+                }
+            });
+        }
+    }
+
+    // Applied once the write commits, so a rolled back create or update never shows up in searches
+    private void indexName(Project project) {
+        TransactionCallbacks.afterCommit(() -> applyToNameIndex(
+                () -> nameIndex.put(project.getId(), project.getName(), project)));
+    }
+
+    // Applies the change now, buffers it for the load in progress, or drops it before the first
+    // load (which reads the committed row)
+    private void applyToNameIndex(Runnable change) {
+        if (nameIndexChanges.admit(change)) {
+            synchronized (nameIndexLock) {
+                change.run();
+            }
+        }
+    }
+
+    // The cursor read runs under a ReentrantLock rather than a monitor, so concurrent first
+    // searches wait for one load without pinning a virtual thread's carrier during the I/O
+    private void loadNameIndex() {
+        if (nameIndexChanges.isLoaded()) {
+            return;
+        }
+        nameIndexLoad.lock();
+        try {
+            if (nameIndexChanges.isLoaded()) {
+                return;
+            }
+            long load = nameIndexChanges.startLoad();
+            TrigramIndex<Project> loaded = new TrigramIndex<>();
+            try (Stream<Project> allProjects = projectDAO.streamAll()) {
+                allProjects.forEach(project -> loaded.put(project.getId(), project.getName(), project));
+            } catch (RuntimeException e) {
+                nameIndexChanges.abortLoad(load);
+                throw e;
+            }
+            // A load inside a transaction also read its uncommitted projects: dropped on rollback
+            synchronized (nameIndexLock) {
+                TrigramIndex<Project> previous = nameIndex;
+                nameIndex = loaded;
+                if (!nameIndexChanges.finishLoad(load, this::dropNameIndex)) {
+                    nameIndex = previous;
+                }
+            }
+        } finally {
+            nameIndexLoad.unlock();
+        }
+    }
+
+    private void dropNameIndex() {
+        synchronized (nameIndexLock) {
+            nameIndexChanges.invalidate();
+            nameIndex = new TrigramIndex<>();
+        }
+    }
+
+    // Validation methods
 
-    private void validateProject(Project project) {
+    public void validateProject(Project project) {
         if (project == null) {
             throw new IllegalArgumentException("Project cannot be null");
         }
@@ -0,0 +1,87 @@
+package com.task.Task_management.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Load state of a TaskChangeListener that snapshots the tasks table. Change callbacks that arrive
+// while the snapshot is read are buffered and replayed on top of it, so a write committing during
+// a load is never lost; before the first load they are dropped, the load reads the committed row.
+// An invalidate during a load discards that load.
+//
+//   long load = buffer.startLoad();           // before the snapshot query
+//   ... read the snapshot under the write lock ...
+//   buffer.finishLoad(load, this::invalidate); // still under the write lock
+//
+//   if (buffer.admit(change)) { apply change under the write lock }
+public final class TaskChangeBuffer {
+
+    private volatile boolean loaded;
+    private List<Runnable> pending;
+    private long generation;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // Starts buffering; the returned token identifies the load
+    public synchronized long startLoad() {
+        pending = new ArrayList<>();
+        return generation;
+    }
+
+    // Marks the snapshot loaded and replays the buffered changes; call with the listener's write
+    // lock held. False when an invalidate came in meanwhile, the snapshot must then be dropped.
+    // A load made inside a transaction also saw its uncommitted writes, so onRollback runs if it
+    // does not commit.
+    public boolean finishLoad(long load, Runnable onRollback) {
+        List<Runnable> replay;
+        synchronized (this) {
+            if (load != generation) {
+                return false;
+            }
+            replay = pending;
+            pending = null;
+            loaded = true;
+        }
+        if (replay != null) {
+            replay.forEach(Runnable::run);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        onRollback.run();
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    // Ends a load that failed before finishLoad
+    public synchronized void abortLoad(long load) {
+        if (load == generation) {
+            pending = null;
+        }
+    }
+
+    // True when the caller should apply the change now; false when it was buffered for replay
+    // or is not needed because nothing is loaded
+    public synchronized boolean admit(Runnable change) {
+        if (pending != null) {
+            pending.add(change);
+            return false;
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        loaded = false;
+        pending = null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.task.Task_management.service;
+
+import com.task.Task_management.model.Task;
+
+// Implemented by in-memory task structures that TaskService keeps current.
+// Called after the write commits, with a copy the listener may keep.
+public interface TaskChangeListener {
+
+    void onTaskSaved(Task task);
+
+    void onTaskDeleted(int taskId);
+
+    // Tasks changed without notice (bulk load, missed cross-node changes): drop everything
+    // so the next query reloads
+    void invalidate();
+}
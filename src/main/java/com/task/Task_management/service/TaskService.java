@@ -1,18 +1,40 @@
 package com.task.Task_management.service;
 
+import com.task.Task_management.analytics.DueDateIndex;
+import com.task.Task_management.analytics.TaskColumnStore;
+import com.task.Task_management.dao.Page;
+import com.task.Task_management.dao.TaskCounterDAO;
+import com.task.Task_management.dao.TaskCounterDAO.Deltas;
+import com.task.Task_management.dao.TaskCounterDAO.Scope;
+import com.task.Task_management.dao.TaskCriteria;
 import com.task.Task_management.dao.TaskDAO;
+import com.task.Task_management.dao.TransactionCallbacks;
+import com.task.Task_management.dao.UnitOfWork;
 import com.task.Task_management.dao.UserDAO;
+import com.task.Task_management.dispatch.TaskQueues;
 import com.task.Task_management.dao.ProjectDAO;
 import com.task.Task_management.exception.InvalidTaskException;
 import com.task.Task_management.exception.TaskNotFoundException;
 import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskCounts;
+import com.task.Task_management.model.TaskStatus;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
@@ -27,6 +49,34 @@ public class TaskService {
     @Autowired
     private ProjectDAO projectDAO;
 
+    @Autowired
+    private TaskColumnStore columnStore;
+
+    // Answers the due-date queries below from memory; kept current through changeListeners
+    @Autowired
+    private DueDateIndex dueDateIndex;
+
+    // Per-user TODO heaps proposing the candidates pollNextTask claims
+    @Autowired
+    private TaskQueues taskQueues;
+
+    // Candidates from the heap tried by one claim before falling back to the database order
+    @Value("${dispatch.claim-candidates:8}")
+    private int claimCandidates;
+
+    // Per-project and per-user status counts, adjusted in the transaction of every write below
+    @Autowired
+    private TaskCounterDAO taskCounterDAO;
+
+    // In-memory task structures (column store, indexes) notified after each committed write
+    @Autowired(required = false)
+    private List<TaskChangeListener> changeListeners = List.of();
+
+    // "queries" checks the task's project and user and its existence before writing,
+    // "constraints" leaves that to the foreign keys (database/integrity_constraints.sql)
+    @Value("${validation.mode:queries}")
+    private String validationMode;
+
     // Method 1: Get all tasks
     public List<Task> getAllTasks() {
         return taskDAO.findAll();
@@ -50,12 +100,16 @@ public class TaskService {
         // Validate input
         validateTask(task);
 
-        // Validate foreign key relationships
-        validateTaskRelationships(task);
+        // Validate foreign key relationships (in constraints mode the insert checks them)
+        if (!constraintValidation()) {
+            validateTaskRelationships(task);
+        }
 
         // Save task and return with generated ID
-        int generatedId = taskDAO.save(task);
+        int generatedId = writeTask(task, () -> taskDAO.save(task));
         task.setId(generatedId);
+        taskCounterDAO.apply(new Deltas().add(task));
+        notifySaved(task);
         return task;
     }
 
@@ -64,15 +118,31 @@ public class TaskService {
         // Validate input
         validateTask(task);
 
-        // Check if task exists
-        if (!taskExists(task.getId())) {
-            throw new TaskNotFoundException(task.getId());
+        // The old row is only needed when the counted columns (project, user, status) may change
+        Task previous = null;
+        if (changesCountedColumns(task)) {
+            previous = taskDAO.findByIdForUpdate(task.getId());
+            if (previous == null) {
+                throw new TaskNotFoundException(task.getId());
+            }
         }
 
-        // Validate foreign key relationships
-        validateTaskRelationships(task);
+        // Check existence and foreign key relationships (in constraints mode the update checks them)
+        if (!constraintValidation()) {
+            if (previous == null && !taskExists(task.getId())) {
+                throw new TaskNotFoundException(task.getId());
+            }
+            validateTaskRelationships(task);
+        }
 
-        taskDAO.update(task);
+        translateCommitFailures(task);
+        if (!writeTask(task, () -> taskDAO.update(task))) {
+            throw new TaskNotFoundException(task.getId());
+        }
+        if (previous != null) {
+            taskCounterDAO.apply(new Deltas().remove(previous).add(task));
+        }
+        notifySaved(task);
         return task;
     }
 
@@ -82,11 +152,12 @@ public class TaskService {
             throw new IllegalArgumentException("Task ID must be positive");
         }
 
-        if (!taskExists(id)) {
+        Task deleted = taskDAO.deleteById(id);
+        if (deleted == null) {
             throw new TaskNotFoundException(id);
         }
-
-        taskDAO.deleteById(id);
+        taskCounterDAO.apply(new Deltas().remove(deleted));
+        notifyDeleted(id);
     }
 
     // Method 6: Get tasks by project ID
@@ -96,11 +167,11 @@ public class TaskService {
         }
 
         // Validate project exists
-        if (projectDAO.findById(projectId) == null) {
+        if (!projectDAO.existsById(projectId)) {
             throw new IllegalArgumentException("Project not found with ID: " + projectId);
         }
 
-        return taskDAO.findByProjectId(projectId);
+        return taskDAO.findByCriteria(TaskCriteria.all().projectId(projectId));
     }
 
     // Method 7: Get tasks by user ID
@@ -110,32 +181,33 @@ public class TaskService {
         }
 
         // Validate user exists
-        if (userDAO.findById(userId) == null) {
+        if (!userDAO.existsById(userId)) {
             throw new IllegalArgumentException("User not found with ID: " + userId);
         }
 
-        return taskDAO.findByUserId(userId);
+        return taskDAO.findByCriteria(TaskCriteria.all().userId(userId));
     }
 
     // Method 8: Get tasks by status
-    public List<Task> getTasksByStatus(String status) {
+    public List<Task> getTasksByStatus(TaskStatus status) {
         validateTaskStatus(status);
-        return taskDAO.findByStatus(status);
+        return taskDAO.findByCriteria(TaskCriteria.all().status(status));
+    }
+
+    public List<Task> getTasksByStatus(String status) {
+        return getTasksByStatus(parseTaskStatus(status));
     }
 
     // Method 9: Get overdue tasks
     public List<Task> getOverdueTasks() {
-        return taskDAO.findOverdueTasks();
+        return findInOrder(dueDateIndex.overdueIds(LocalDate.now()));
     }
 
     // Method 10: Get tasks by priority
     public List<Task> getTasksByPriority(int priority) {
         validateTaskPriority(priority);
 
-        List<Task> allTasks = taskDAO.findAll();
-        return allTasks.stream()
-                .filter(task -> task.getPriority() == priority)
-                .collect(Collectors.toList());
+        return taskDAO.findByCriteria(TaskCriteria.all().priority(priority));
     }
 
     // Method 11: Get tasks due within specific days
@@ -144,34 +216,31 @@ public class TaskService {
             throw new IllegalArgumentException("Days must be non-negative");
         }
 
-        LocalDate cutoffDate = LocalDate.now().plusDays(days);
-        List<Task> allTasks = taskDAO.findAll();
-
-        return allTasks.stream()
-                .filter(task -> !task.getDueDate().isAfter(cutoffDate) &&
-                        !task.getDueDate().isBefore(LocalDate.now()))
-                .collect(Collectors.toList());
+        LocalDate today = LocalDate.now();
+        return findInOrder(dueDateIndex.dueBetween(today, today.plusDays(days)));
     }
 
     // Method 12: Update task status
-    public Task updateTaskStatus(int taskId, String status) {
+    public Task updateTaskStatus(int taskId, TaskStatus status) {
         validateTaskStatus(status);
 
-        Task task = getTaskById(taskId); // This validates existence
-        task.setStatus(status);
-
-        taskDAO.update(task);
+        Task previous = requireUpdated(taskId, taskDAO.findByIdForUpdate(validTaskId(taskId)));
+        Task task = requireUpdated(taskId, taskDAO.updateStatus(taskId, status));
+        taskCounterDAO.apply(new Deltas().remove(previous).add(task));
+        notifySaved(task);
         return task;
     }
 
+    public Task updateTaskStatus(int taskId, String status) {
+        return updateTaskStatus(taskId, parseTaskStatus(status));
+    }
+
     // Method 13: Update task priority
     public Task updateTaskPriority(int taskId, int priority) {
         validateTaskPriority(priority);
 
-        Task task = getTaskById(taskId); // This validates existence
-        task.setPriority(priority);
-
-        taskDAO.update(task);
+        Task task = requireUpdated(taskId, taskDAO.updatePriority(validTaskId(taskId), priority));
+        notifySaved(task);
         return task;
     }
 
@@ -182,14 +251,14 @@ public class TaskService {
         }
 
         // Validate user exists
-        if (userDAO.findById(newUserId) == null) {
+        if (!userDAO.existsById(newUserId)) {
             throw new IllegalArgumentException("User not found with ID: " + newUserId);
         }
 
-        Task task = getTaskById(taskId); // This validates task existence
-        task.setUserId(newUserId);
-
-        taskDAO.update(task);
+        Task previous = requireUpdated(taskId, taskDAO.findByIdForUpdate(validTaskId(taskId)));
+        Task task = requireUpdated(taskId, taskDAO.updateUserId(taskId, newUserId));
+        taskCounterDAO.apply(new Deltas().remove(previous).add(task));
+        notifySaved(task);
         return task;
     }
 
@@ -199,8 +268,14 @@ public class TaskService {
             throw new IllegalArgumentException("Project ID must be positive");
         }
 
-        List<Task> projectTasks = getTasksByProject(projectId);
-        return calculateTaskStatistics(projectTasks, "Project " + projectId);
+        // Validate project exists
+        if (!projectDAO.existsById(projectId)) {
+            throw new IllegalArgumentException("Project not found with ID: " + projectId);
+        }
+
+        TaskCounts counts = taskCounterDAO.counts(Scope.PROJECT, projectId);
+        counts.setOverdue(taskCounterDAO.countOverdue(Scope.PROJECT, projectId, LocalDate.now()));
+        return TaskStatistics.from("Project " + projectId, counts);
     }
 
     // Method 16: Get task statistics for a user
@@ -209,24 +284,358 @@ public class TaskService {
             throw new IllegalArgumentException("User ID must be positive");
         }
 
-        List<Task> userTasks = getTasksByUser(userId);
-        return calculateTaskStatistics(userTasks, "User " + userId);
+        // Validate user exists
+        if (!userDAO.existsById(userId)) {
+            throw new IllegalArgumentException("User not found with ID: " + userId);
+        }
+
+        TaskCounts counts = taskCounterDAO.counts(Scope.USER, userId);
+        counts.setOverdue(taskCounterDAO.countOverdue(Scope.USER, userId, LocalDate.now()));
+        return TaskStatistics.from("User " + userId, counts);
     }
 
     // Method 17: Get overall task statistics
     public TaskStatistics getOverallTaskStatistics() {
-        List<Task> allTasks = taskDAO.findAll();
-        return calculateTaskStatistics(allTasks, "Overall");
+        TaskCounts counts = taskDAO.countByCriteria(TaskCriteria.all(), LocalDate.now());
+        return TaskStatistics.from("Overall", counts);
     }
 
     // Method 18: Check if task exists
     public boolean taskExists(int id) {
-        return taskDAO.findById(id) != null;
+        return taskDAO.existsById(id);
+    }
+
+    // Method 19: Find tasks matching a combination of filters
+    public List<Task> findTasks(TaskCriteria criteria) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Criteria cannot be null");
+        }
+        if (criteria.getMinPriority() != null && criteria.getMaxPriority() != null
+                && criteria.getMinPriority() > criteria.getMaxPriority()) {
+            throw new IllegalArgumentException("Minimum priority cannot be greater than maximum priority");
+        }
+        if (criteria.getDueFrom() != null && criteria.getDueTo() != null
+                && criteria.getDueFrom().isAfter(criteria.getDueTo())) {
+            throw new IllegalArgumentException("Due date window start cannot be after its end");
+        }
+
+        return taskDAO.findByCriteria(criteria);
     }
 
-    // Private validation methods
+    // Method 20: Calculate statistics for a task list the caller already holds (single pass)
+    public TaskStatistics calculateTaskStatistics(List<Task> tasks, String context) {
+        LocalDate today = LocalDate.now();
+        TaskCounts counts = new TaskCounts();
+        long todo = 0, inProgress = 0, completed = 0, blocked = 0, overdue = 0;
+
+        for (Task task : tasks) {
+            TaskStatus status = task.getStatus();
+
+            switch (status) {
+                case TODO:
+                    todo++;
+                    break;
+                case IN_PROGRESS:
+                    inProgress++;
+                    break;
+                case COMPLETED:
+                    completed++;
+                    break;
+                case BLOCKED:
+                    blocked++;
+                    break;
+            }
 
-    private void validateTask(Task task) {
+            if (status != TaskStatus.COMPLETED && task.getDueDate().isBefore(today)) {
+                overdue++;
+            }
+        }
+
+        counts.setTotal(tasks.size());
+        counts.setTodo(todo);
+        counts.setInProgress(inProgress);
+        counts.setCompleted(completed);
+        counts.setBlocked(blocked);
+        counts.setOverdue(overdue);
+        return TaskStatistics.from(context, counts);
+    }
+
+    // Method 21: Create many tasks at once, validating the whole batch before writing any of it
+    public List<Task> createTasks(List<Task> tasks) {
+        if (tasks == null) {
+            throw new IllegalArgumentException("Task list cannot be null");
+        }
+
+        Set<Integer> projectIds = new LinkedHashSet<>();
+        Set<Integer> userIds = new LinkedHashSet<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            try {
+                validateTask(task);
+            } catch (IllegalArgumentException | InvalidTaskException e) {
+                throw new InvalidTaskException("Invalid task at position " + i + ": " + e.getMessage());
+            }
+            projectIds.add(task.getProjectId());
+            userIds.add(task.getUserId());
+        }
+
+        // Each referenced project and user is checked once, not once per task
+        for (int projectId : projectIds) {
+            if (!projectDAO.existsById(projectId)) {
+                throw new InvalidTaskException("Project not found with ID: " + projectId);
+            }
+        }
+        for (int userId : userIds) {
+            if (!userDAO.existsById(userId)) {
+                throw new InvalidTaskException("User not found with ID: " + userId);
+            }
+        }
+
+        int[] generatedIds = taskDAO.saveAll(tasks);
+        Deltas deltas = new Deltas();
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(generatedIds[i]);
+            deltas.add(tasks.get(i));
+            notifySaved(tasks.get(i));
+        }
+        taskCounterDAO.apply(deltas);
+        return tasks;
+    }
+
+    // Method 22: Get one page of tasks, ordered by the criteria sort (id by default)
+    public Page<Task> getTaskPage(TaskCriteria criteria, String pageToken, int pageSize) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Criteria cannot be null");
+        }
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return taskDAO.findPage(criteria, pageToken, pageSize);
+    }
+
+    // Method 23: Task statistics for every project, computed in memory from the column store
+    public Map<Integer, TaskStatistics> getTaskStatisticsByProject() {
+        Map<Integer, TaskStatistics> statistics = new LinkedHashMap<>();
+        columnStore.countByProject(LocalDate.now())
+                .forEach((projectId, counts) -> statistics.put(projectId, TaskStatistics.from("Project " + projectId, counts)));
+        return statistics;
+    }
+
+    // Method 24: Task statistics for every user, computed in memory from the column store
+    public Map<Integer, TaskStatistics> getTaskStatisticsByUser() {
+        Map<Integer, TaskStatistics> statistics = new LinkedHashMap<>();
+        columnStore.countByUser(LocalDate.now())
+                .forEach((userId, counts) -> statistics.put(userId, TaskStatistics.from("User " + userId, counts)));
+        return statistics;
+    }
+
+    // Method 25: Set the status of many tasks with one statement, returns the ids that changed
+    public List<Integer> updateTaskStatuses(Collection<Integer> taskIds, TaskStatus status) {
+        validateTaskStatus(status);
+        validateTaskIds(taskIds);
+
+        Map<Integer, Task> previous = taskDAO.findByIdsForUpdate(taskIds);
+        List<Task> updated = taskDAO.updateStatus(taskIds, status);
+        Deltas deltas = new Deltas();
+        for (Task task : updated) {
+            deltas.remove(previous.get(task.getId())).add(task);
+        }
+        taskCounterDAO.apply(deltas);
+        return notifySaved(updated);
+    }
+
+    // Method 26: Move every task of one user to another (offboarding), returns the ids that moved
+    public List<Integer> reassignAllTasks(int fromUserId, int toUserId) {
+        if (fromUserId <= 0 || toUserId <= 0) {
+            throw new IllegalArgumentException("User ID must be positive");
+        }
+        if (!userDAO.existsById(toUserId)) {
+            throw new IllegalArgumentException("User not found with ID: " + toUserId);
+        }
+
+        // Project and status stay the same, so the counter deltas follow from the moved rows alone
+        List<Task> moved = taskDAO.reassignAll(fromUserId, toUserId);
+        Deltas deltas = new Deltas();
+        for (Task task : moved) {
+            deltas.add(task.getProjectId(), fromUserId, task.getStatus(), -1).add(task);
+        }
+        taskCounterDAO.apply(deltas);
+        return notifySaved(moved);
+    }
+
+    // Method 27: Set the priority of every task matching the criteria, returns the ids that changed
+    public List<Integer> updateTaskPriorityWhere(TaskCriteria criteria, int priority) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Criteria cannot be null");
+        }
+        validateTaskPriority(priority);
+
+        return notifySaved(taskDAO.updatePriorityWhere(criteria, priority));
+    }
+
+    // Method 28: Recount task_counters from tasks, returns the number of counters written
+    public int rebuildTaskCounters() {
+        return taskCounterDAO.rebuild();
+    }
+
+    // Method 29: Number of counters that differ from a recount of tasks (0 when consistent)
+    public int countTaskCounterDrift() {
+        return taskCounterDAO.countDrift();
+    }
+
+    // Method 30: Ids of overdue tasks ordered by due date, without a query
+    public int[] getOverdueTaskIds() {
+        return dueDateIndex.overdueIds(LocalDate.now());
+    }
+
+    // Method 31: Ids of tasks due within specific days ordered by due date, without a query
+    public int[] getTaskIdsDueWithin(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Days must be non-negative");
+        }
+
+        LocalDate today = LocalDate.now();
+        return dueDateIndex.dueBetween(today, today.plusDays(days));
+    }
+
+    // Method 32: Claim the user's next TODO task (highest priority, then earliest due date) by moving
+    // it to IN_PROGRESS; null when the user has nothing left to claim. Concurrent callers never get
+    // the same task, the claim skips rows another transaction holds (TaskDAO.claimNext).
+    public Task pollNextTask(int userId) {
+        validateUserId(userId);
+
+        // The heap is only a hint: it can be empty or stale (before a load, after a bulk load, while
+        // another node's writes are not synced yet), so the database order is the fallback
+        int[] candidates = taskQueues.peekTopK(userId, claimCandidates);
+        Task task = null;
+        if (candidates.length > 0) {
+            task = taskDAO.claimNext(userId, Arrays.stream(candidates).boxed().toList());
+        }
+        if (task == null) {
+            // No candidates, or every candidate was stale or being claimed by someone else
+            task = taskDAO.claimNext(userId);
+        }
+        if (task == null) {
+            return null;
+        }
+
+        Task previous = new Task(task);
+        previous.setStatus(TaskStatus.TODO);
+        taskCounterDAO.apply(new Deltas().remove(previous).add(task));
+        notifySaved(task);
+        return task;
+    }
+
+    // Method 33: The user's next k TODO tasks in dispatch order, without claiming them
+    public List<Task> peekTopK(int userId, int k) {
+        validateUserId(userId);
+        if (k <= 0) {
+            throw new IllegalArgumentException("K must be positive");
+        }
+
+        return findInOrder(taskQueues.peekTopK(userId, k));
+    }
+
+    // Method 34: Bring the in-memory task structures up to date after writes made elsewhere (another
+    // node, a bulk load): re-reads the given tasks, or with null drops everything to reload on next use
+    public void refreshTasks(Collection<Integer> taskIds) {
+        if (taskIds == null) {
+            for (TaskChangeListener listener : changeListeners) {
+                listener.invalidate();
+            }
+            return;
+        }
+
+        Map<Integer, Task> tasks = taskDAO.findByIds(taskIds);
+        for (int taskId : taskIds) {
+            Task task = tasks.get(taskId);
+            if (task != null) {
+                notifySaved(task);
+            } else {
+                notifyDeleted(taskId);
+            }
+        }
+    }
+
+    // Fetches the tasks by primary key and returns them in the order of ids
+    private List<Task> findInOrder(int[] ids) {
+        if (ids.length == 0) {
+            return List.of();
+        }
+        Map<Integer, Task> byId = taskDAO.findByIds(Arrays.stream(ids).boxed().toList());
+        List<Task> tasks = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Task task = byId.get(id);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    private boolean changesCountedColumns(Task task) {
+        Set<Task.Field> changed = task.getChangedFields();
+        return changed.contains(Task.Field.STATUS) || changed.contains(Task.Field.PROJECT_ID)
+                || changed.contains(Task.Field.USER_ID);
+    }
+
+    private int validTaskId(int taskId) {
+        if (taskId <= 0) {
+            throw new IllegalArgumentException("Task ID must be positive");
+        }
+        return taskId;
+    }
+
+    private void validateUserId(int userId) {
+        if (userId <= 0) {
+            throw new IllegalArgumentException("User ID must be positive");
+        }
+    }
+
+    private Task requireUpdated(int taskId, Task updated) {
+        if (updated == null) {
+            throw new TaskNotFoundException(taskId);
+        }
+        return updated;
+    }
+
+    // Change notification
+
+    private void notifySaved(Task task) {
+        Task copy = new Task(task);
+        TransactionCallbacks.afterCommit(() -> {
+            for (TaskChangeListener listener : changeListeners) {
+                listener.onTaskSaved(copy);
+            }
+        });
+    }
+
+    private List<Integer> notifySaved(List<Task> tasks) {
+        List<Integer> ids = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            ids.add(task.getId());
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            for (TaskChangeListener listener : changeListeners) {
+                for (Task task : tasks) {
+                    listener.onTaskSaved(task);
+                }
+            }
+        });
+        return ids;
+    }
+
+    private void notifyDeleted(int taskId) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (TaskChangeListener listener : changeListeners) {
+                listener.onTaskDeleted(taskId);
+            }
+        });
+    }
+
+    // Validation methods
+
+    public void validateTask(Task task) {
         if (task == null) {
             throw new IllegalArgumentException("Task cannot be null");
         }
@@ -259,25 +668,34 @@ public class TaskService {
         }
     }
 
-    private void validateTaskStatus(String status) {
-        if (status == null || status.trim().isEmpty()) {
-            throw new IllegalArgumentException("Task status cannot be null or empty");
+    private void validateTaskStatus(TaskStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Task status cannot be null");
         }
+    }
 
-        String[] validStatuses = { "TODO", "IN_PROGRESS", "COMPLETED", "BLOCKED" };
-        boolean isValidStatus = false;
-
-        for (String validStatus : validStatuses) {
-            if (validStatus.equalsIgnoreCase(status)) {
-                isValidStatus = true;
-                break;
-            }
+    private TaskStatus parseTaskStatus(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            throw new IllegalArgumentException("Task status cannot be null or empty");
         }
 
-        if (!isValidStatus) {
+        TaskStatus parsed = TaskStatus.fromName(status);
+        if (parsed == null) {
             throw new IllegalArgumentException(
                     "Invalid task status. Must be: TODO, IN_PROGRESS, COMPLETED, or BLOCKED");
         }
+        return parsed;
+    }
+
+    private void validateTaskIds(Collection<Integer> taskIds) {
+        if (taskIds == null) {
+            throw new IllegalArgumentException("Task IDs cannot be null");
+        }
+        for (Integer taskId : taskIds) {
+            if (taskId == null || taskId <= 0) {
+                throw new IllegalArgumentException("Task ID must be positive");
+            }
+        }
     }
 
     private void validateTaskPriority(int priority) {
@@ -299,48 +717,61 @@ public class TaskService {
         }
     }
 
+    private boolean constraintValidation() {
+        return "constraints".equalsIgnoreCase(validationMode);
+    }
+
+    // Runs the write, turning foreign key violations into the exceptions validateTaskRelationships throws
+    private <T> T writeTask(Task task, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException e) {
+            throw translateViolation(task, e);
+        }
+    }
+
+    // An update queued in a UnitOfWork is only written when it commits; its failures are
+    // reported then as the same exceptions updateTask throws
+    private void translateCommitFailures(Task task) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork == null) {
+            return;
+        }
+        Task written = new Task(task);
+        unitOfWork.onFailure("tasks", written.getId(), e -> {
+            if (e instanceof IncorrectUpdateSemanticsDataAccessException) {
+                return new TaskNotFoundException(written.getId());
+            }
+            if (e instanceof DataIntegrityViolationException violation) {
+                return translateViolation(written, violation);
+            }
+            return e;
+        });
+    }
+
+    private RuntimeException translateViolation(Task task, DataIntegrityViolationException e) {
+        String constraint = ConstraintViolations.constraintName(e);
+        if ("tasks_project_fk".equals(constraint)) {
+            return new InvalidTaskException("Project not found with ID: " + task.getProjectId());
+        }
+        if ("tasks_user_fk".equals(constraint)) {
+            return new InvalidTaskException("User not found with ID: " + task.getUserId());
+        }
+        return e;
+    }
+
     private void validateTaskRelationships(Task task) {
         // Validate project exists
-        if (projectDAO.findById(task.getProjectId()) == null) {
+        if (!projectDAO.existsById(task.getProjectId())) {
             throw new InvalidTaskException("Project not found with ID: " + task.getProjectId());
         }
 
         // Validate user exists
-        if (userDAO.findById(task.getUserId()) == null) {
+        if (!userDAO.existsById(task.getUserId())) {
             throw new InvalidTaskException("User not found with ID: " + task.getUserId());
         }
     }
 
-    private TaskStatistics calculateTaskStatistics(List<Task> tasks, String context) {
-        long totalTasks = tasks.size();
-
-        long todoTasks = tasks.stream()
-                .filter(task -> "TODO".equalsIgnoreCase(task.getStatus()))
-                .count();
-
-        long inProgressTasks = tasks.stream()
-                .filter(task -> "IN_PROGRESS".equalsIgnoreCase(task.getStatus()))
-                .count();
-
-        long completedTasks = tasks.stream()
-                .filter(task -> "COMPLETED".equalsIgnoreCase(task.getStatus()))
-                .count();
-
-        long blockedTasks = tasks.stream()
-                .filter(task -> "BLOCKED".equalsIgnoreCase(task.getStatus()))
-                .count();
-
-        long overdueTasks = tasks.stream()
-                .filter(task -> task.getDueDate().isBefore(LocalDate.now()) &&
-                        !"COMPLETED".equalsIgnoreCase(task.getStatus()))
-                .count();
-
-        double completionPercentage = totalTasks > 0 ? (completedTasks * 100.0 / totalTasks) : 0.0;
-
-        return new TaskStatistics(context, totalTasks, todoTasks, inProgressTasks,
-                completedTasks, blockedTasks, overdueTasks, completionPercentage);
-    }
-
     // Inner class for task statistics
     public static class TaskStatistics {
         private final String context;
@@ -365,6 +796,13 @@ public class TaskService {
             this.completionPercentage = completionPercentage;
         }
 
+        public static TaskStatistics from(String context, TaskCounts counts) {
+            long total = counts.getTotal();
+            double completionPercentage = total > 0 ? (counts.getCompleted() * 100.0 / total) : 0.0;
+            return new TaskStatistics(context, total, counts.getTodo(), counts.getInProgress(),
+                    counts.getCompleted(), counts.getBlocked(), counts.getOverdue(), completionPercentage);
+        }
+
         // Getters
         public String getContext() {
             return context;
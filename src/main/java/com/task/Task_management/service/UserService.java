@@ -1,14 +1,21 @@
 package com.task.Task_management.service;
 
+import com.task.Task_management.dao.Page;
+import com.task.Task_management.dao.TransactionCallbacks;
 import com.task.Task_management.dao.UserDAO;
 import com.task.Task_management.exception.UserAlreadyExistsException;
 import com.task.Task_management.exception.UserNotFoundException;
 import com.task.Task_management.model.User;
+import com.task.Task_management.model.UserRole;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 @Service
@@ -21,10 +28,25 @@ public class UserService {
     // Email validation pattern
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
 
+    // "queries" checks existence and email uniqueness before writing, "constraints" leaves
+    // that to the unique index on lower(email) and the update row count
+    @Value("${validation.mode:queries}")
+    private String validationMode;
+
+    // Emails this service has seen, so repeat lookups skip the database
+    private final EmailIndex emailIndex = new EmailIndex();
+
     public List<User> getAllUsers() {
         return userDAO.findAll();
     }
 
+    public Page<User> getUserPage(String pageToken, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return userDAO.findPage(pageToken, pageSize);
+    }
+
     public User getUserById(int id) {
         if (id <= 0) {
             throw new IllegalArgumentException("User Id must be positive");
@@ -40,33 +62,40 @@ public class UserService {
     public User createUser(User user) {
         validateUser(user);
 
-        if (isEmailExists(user.getEmail())) {
+        if (!constraintValidation() && isEmailExists(user.getEmail())) {
             throw new UserAlreadyExistsException("User already exists with email: " + user.getEmail());
         }
 
-        int generatedId = userDAO.save(user);
+        int generatedId = writeUser(() -> userDAO.save(user),
+                "User already exists with email: " + user.getEmail());
         user.setId(generatedId);
+        indexEmail(generatedId, user.getEmail());
         return user;
     }
 
     public User updateUser(User user) {
         validateUser(user);
 
-        if (!userExists(user.getId())) {
-            throw new UserNotFoundException("user not found with Id: " + user.getId());
-        }
+        if (!constraintValidation()) {
+            if (!userExists(user.getId())) {
+                throw new UserNotFoundException("user not found with Id: " + user.getId());
+            }
 
-        User existingUser = userDAO.findById((user.getId()));
-        if (!existingUser.getEmail().equals(user.getEmail()) && isEmailExists(user.getEmail())) {
-            throw new UserAlreadyExistsException("Email already in use: " + user.getEmail());
+            Integer emailOwnerId = findEmailOwnerId(user.getEmail());
+            if (emailOwnerId != null && emailOwnerId != user.getId()) {
+                throw new UserAlreadyExistsException("Email already in use: " + user.getEmail());
+            }
         }
 
-        userDAO.update(user);
+        if (!writeUser(() -> userDAO.update(user), "Email already in use: " + user.getEmail())) {
+            throw new UserNotFoundException("user not found with Id: " + user.getId());
+        }
+        indexEmail(user.getId(), user.getEmail());
         return user;
     }
 
     public boolean userExists(int id) {
-        return userDAO.findById(id) != null;
+        return userDAO.existsById(id);
     }
 
     public void deleteUser(int id) {
@@ -79,6 +108,7 @@ public class UserService {
         }
 
         userDAO.deleteById(id);
+        unindexEmail(id);
     }
 
     public User getUserByEmail(String email) {
@@ -86,21 +116,64 @@ public class UserService {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
 
-        List<User> allUsers = userDAO.findAll();
-        return allUsers.stream()
-                .filter(user -> user.getEmail().equalsIgnoreCase(email))
-                .findFirst()
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
+        Integer indexedId = emailIndex.findId(email);
+        if (indexedId != null) {
+            User user = userDAO.findById(indexedId);
+            if (user != null && user.getEmail().equalsIgnoreCase(email.trim())) {
+                return user;
+            }
+            emailIndex.remove(indexedId);
+        }
+
+        User user = userDAO.findByEmail(email.trim());
+        if (user == null) {
+            throw new UserNotFoundException("User not found with email: " + email);
+        }
+        indexEmail(user.getId(), user.getEmail());
+        return user;
     }
 
-    public List<User> getUsersByRole(String role) {
+    public List<User> getUsersByRole(UserRole role) {
         validateRole(role);
         List<User> allUsers = userDAO.findAll();
         return allUsers.stream()
-                .filter(user -> user.getRole().equalsIgnoreCase(role))
+                .filter(user -> user.getRole() == role)
                 .toList();
     }
 
+    public List<User> getUsersByRole(String role) {
+        return getUsersByRole(parseRole(role));
+    }
+
+    private boolean constraintValidation() {
+        return "constraints".equalsIgnoreCase(validationMode);
+    }
+
+    // Drops cached state of users written elsewhere (another node, a bulk load); null drops all of it
+    public void refreshUsers(Collection<Integer> userIds) {
+        if (userIds == null) {
+            userDAO.getCache().clear();
+            emailIndex.clear();
+            return;
+        }
+        for (int userId : userIds) {
+            userDAO.getCache().invalidate(userId);
+            emailIndex.remove(userId);
+        }
+    }
+
+    // Runs the write, turning a unique email violation into UserAlreadyExistsException
+    private <T> T writeUser(Supplier<T> write, String duplicateEmailMessage) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException e) {
+            if ("users_email_lower_idx".equals(ConstraintViolations.constraintName(e))) {
+                throw new UserAlreadyExistsException(duplicateEmailMessage);
+            }
+            throw e;
+        }
+    }
+
     // helper method
     public void validateUser(User user) {
         if (user == null) {
@@ -137,30 +210,54 @@ public class UserService {
         }
     }
 
-    private void validateRole(String role) {
+    private void validateRole(UserRole role) {
+        if (role == null) {
+            throw new IllegalArgumentException("Role cannot be null");
+        }
+    }
+
+    private UserRole parseRole(String role) {
         if (role == null || role.trim().isEmpty()) {
             throw new IllegalArgumentException("Role cannot be null or empty");
         }
 
-        // Define allowed roles
-        String[] validRoles = { "ADMIN", "USER", "MANAGER" };
-        boolean isValidRole = false;
-
-        for (String validRole : validRoles) {
-            if (validRole.equalsIgnoreCase(role)) {
-                isValidRole = true;
-                break;
-            }
-        }
-        if (!isValidRole) {
+        UserRole parsed = UserRole.fromName(role);
+        if (parsed == null) {
             throw new IllegalArgumentException("Invalid role. Must be: ADMIN, USER, or MANAGER");
         }
+        return parsed;
     }
 
     private boolean isEmailExists(String email) {
-        List<User> allUsers = userDAO.findAll();
-        return allUsers.stream()
-                .anyMatch(user -> user.getEmail().equalsIgnoreCase(email));
+        return emailIndex.findId(email) != null || userDAO.existsByEmail(email.trim());
+    }
+
+    // Id of the user owning this email (case-insensitive), or null if it is free
+    private Integer findEmailOwnerId(String email) {
+        Integer indexedId = emailIndex.findId(email);
+        if (indexedId != null) {
+            return indexedId;
+        }
+
+        User owner = userDAO.findByEmail(email.trim());
+        if (owner == null) {
+            return null;
+        }
+        indexEmail(owner.getId(), owner.getEmail());
+        return owner.getId();
+    }
+
+    // Index entries are added once the transaction commits: a rolled back insert or update
+    // must not leave an email that seems taken
+    private void indexEmail(int userId, String email) {
+        TransactionCallbacks.afterCommit(() -> emailIndex.put(userId, email));
+    }
+
+    // Removed now, so this transaction stops using the entry, and again after commit in case a
+    // concurrent lookup re-added it from the row as it was before the delete committed
+    private void unindexEmail(int userId) {
+        emailIndex.remove(userId);
+        TransactionCallbacks.afterCommit(() -> emailIndex.remove(userId));
     }
 
 }
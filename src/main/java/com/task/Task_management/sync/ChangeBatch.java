@@ -0,0 +1,62 @@
+package com.task.Task_management.sync;
+
+import com.task.Task_management.sync.ChangeNotification.Entity;
+import com.task.Task_management.sync.ChangeNotification.Op;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+// The notifications of one burst merged per entity: each id is refreshed once however often it
+// changed, and a reset replaces all ids of its entity. Changes made by this node are skipped.
+final class ChangeBatch {
+
+    private final String origin;
+    private final Map<Entity, Set<Integer>> idsByEntity = new EnumMap<>(Entity.class);
+    private final Set<Entity> resets = EnumSet.noneOf(Entity.class);
+
+    ChangeBatch(String origin) {
+        this.origin = origin;
+    }
+
+    // A payload that cannot be read could have been about anything, so it resets everything
+    void add(String payload) {
+        ChangeNotification notification;
+        try {
+            notification = ChangeNotification.decode(payload);
+        } catch (IllegalArgumentException e) {
+            resetAll();
+            return;
+        }
+        if (notification.origin().equals(origin)) {
+            return;
+        }
+        if (notification.op() == Op.RESET) {
+            resets.add(notification.entity());
+            idsByEntity.remove(notification.entity());
+        } else if (!resets.contains(notification.entity())) {
+            idsByEntity.computeIfAbsent(notification.entity(), key -> new LinkedHashSet<>())
+                    .addAll(notification.ids());
+        }
+    }
+
+    void resetAll() {
+        resets.addAll(EnumSet.allOf(Entity.class));
+        idsByEntity.clear();
+    }
+
+    boolean isReset(Entity entity) {
+        return resets.contains(entity);
+    }
+
+    // Ids to refresh, empty when the entity is reset or unchanged
+    Set<Integer> ids(Entity entity) {
+        return idsByEntity.getOrDefault(entity, Set.of());
+    }
+
+    boolean isEmpty() {
+        return resets.isEmpty() && idsByEntity.isEmpty();
+    }
+}
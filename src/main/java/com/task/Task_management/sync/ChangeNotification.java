@@ -0,0 +1,103 @@
+package com.task.Task_management.sync;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// One NOTIFY payload on the changes channel: "<entity><op>:<origin>:<id>,<id>,..."
+// e.g. "tu:3f9a1c2e:12,40" for two updated tasks written by node 3f9a1c2e. A RESET carries no
+// ids and means any row of the entity may have changed (a bulk load).
+public record ChangeNotification(Entity entity, Op op, String origin, List<Integer> ids) {
+
+    // Postgres rejects payloads of 8000 bytes or more; ids beyond this go into further payloads
+    // (ids and origin are ASCII, so characters are bytes)
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    public enum Entity {
+        TASK('t'),
+        USER('u'),
+        PROJECT('p');
+
+        private final char code;
+
+        Entity(char code) {
+            this.code = code;
+        }
+
+        static Entity fromCode(char code) {
+            for (Entity entity : values()) {
+                if (entity.code == code) {
+                    return entity;
+                }
+            }
+            throw new IllegalArgumentException("Unknown entity code: " + code);
+        }
+    }
+
+    public enum Op {
+        INSERT('i'),
+        UPDATE('u'),
+        DELETE('d'),
+        RESET('r');
+
+        private final char code;
+
+        Op(char code) {
+            this.code = code;
+        }
+
+        static Op fromCode(char code) {
+            for (Op op : values()) {
+                if (op.code == code) {
+                    return op;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation code: " + code);
+        }
+    }
+
+    // The payloads for the ids, split so each stays under MAX_PAYLOAD_BYTES
+    static List<String> encode(Entity entity, Op op, String origin, Collection<Integer> ids) {
+        String prefix = "" + entity.code + op.code + ':' + origin + ':';
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(prefix);
+        for (int id : ids) {
+            String next = Integer.toString(id);
+            if (payload.length() > prefix.length() && payload.length() + 1 + next.length() > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                payload.setLength(prefix.length());
+            }
+            if (payload.length() > prefix.length()) {
+                payload.append(',');
+            }
+            payload.append(next);
+        }
+        if (payload.length() > prefix.length() || payloads.isEmpty()) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    static ChangeNotification decode(String payload) {
+        int originEnd = payload.indexOf(':', 3);
+        if (payload.length() < 4 || payload.charAt(2) != ':' || originEnd < 0) {
+            throw new IllegalArgumentException("Malformed change notification: " + payload);
+        }
+        Entity entity = Entity.fromCode(payload.charAt(0));
+        Op op = Op.fromCode(payload.charAt(1));
+        String origin = payload.substring(3, originEnd);
+
+        List<Integer> ids = new ArrayList<>();
+        String idList = payload.substring(originEnd + 1);
+        if (!idList.isEmpty()) {
+            try {
+                for (String id : idList.split(",")) {
+                    ids.add(Integer.parseInt(id));
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed change notification: " + payload, e);
+            }
+        }
+        return new ChangeNotification(entity, op, origin, ids);
+    }
+}
@@ -0,0 +1,108 @@
+package com.task.Task_management.sync;
+
+import com.task.Task_management.dao.UnitOfWork;
+import com.task.Task_management.sync.ChangeNotification.Entity;
+import com.task.Task_management.sync.ChangeNotification.Op;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Announces DAO writes to the other nodes with NOTIFY on CHANNEL, see ChangeSubscriber.
+// Inside a transaction the ids are collected and sent once, just before commit and on the same
+// connection, so Postgres delivers them only if the transaction commits. Inside a UnitOfWork they
+// are sent after it commits; otherwise at once.
+@Component
+public class ChangePublisher {
+
+    public static final String CHANNEL = "task_management_changes";
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Value("${sync.notify.enabled:true}")
+    private boolean enabled;
+
+    // Identifies this node in its payloads, so its subscriber skips changes it already applied
+    private final String origin = UUID.randomUUID().toString().substring(0, 8);
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void published(Entity entity, Op op, int id) {
+        published(entity, op, List.of(id));
+    }
+
+    public void published(Entity entity, Op op, Collection<Integer> ids) {
+        if (!enabled || (ids.isEmpty() && op != Op.RESET)) {
+            return;
+        }
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork != null) {
+            List<Integer> copy = List.copyOf(ids);
+            unitOfWork.afterCommit(() -> send(entity, op, copy));
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending().add(entity, op, ids);
+        } else {
+            send(entity, op, ids);
+        }
+    }
+
+    private Pending pending() {
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Pending created = new Pending();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    created.forEach(ChangePublisher.this::send);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangePublisher.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void send(Entity entity, Op op, Collection<Integer> ids) {
+        for (String payload : ChangeNotification.encode(entity, op, origin, ids)) {
+            jdbc.query("select pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+        }
+    }
+
+    // Ids written by one transaction, one set per entity and operation so repeats collapse
+    private static final class Pending {
+        private final Map<Entity, Map<Op, Set<Integer>>> ids = new EnumMap<>(Entity.class);
+
+        void add(Entity entity, Op op, Collection<Integer> changed) {
+            ids.computeIfAbsent(entity, key -> new EnumMap<>(Op.class))
+                    .computeIfAbsent(op, key -> new LinkedHashSet<>())
+                    .addAll(changed);
+        }
+
+        void forEach(Sender sender) {
+            ids.forEach((entity, byOp) -> byOp.forEach((op, changed) -> sender.send(entity, op, changed)));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Sender {
+        void send(Entity entity, Op op, Collection<Integer> ids);
+    }
+}
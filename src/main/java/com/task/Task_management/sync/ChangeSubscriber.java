@@ -0,0 +1,219 @@
+package com.task.Task_management.sync;
+
+import com.task.Task_management.service.ProjectService;
+import com.task.Task_management.service.TaskService;
+import com.task.Task_management.service.UserService;
+import com.task.Task_management.sync.ChangeNotification.Entity;
+import com.zaxxer.hikari.HikariDataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Listens on ChangePublisher.CHANNEL and brings this node's caches up to date with the writes of
+// the others. A burst of notifications is coalesced for coalesce-millis and applied once per entity.
+// Notifications are not queued while nobody listens, so after every (re)connect all caches are
+// dropped to reload: LISTEN comes first, so nothing committed after the resync can slip through.
+@Component
+public class ChangeSubscriber implements InitializingBean, DisposableBean {
+
+    private static final System.Logger LOGGER = System.getLogger(ChangeSubscriber.class.getName());
+
+    private static final int POLL_MILLIS = 1000;
+    private static final long KEEPALIVE_MILLIS = 30_000;
+    private static final long MAX_RECONNECT_MILLIS = 30_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ChangePublisher publisher;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Value("${sync.listen.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sync.listen.coalesce-millis:50}")
+    private long coalesceMillis;
+
+    // First reconnect delay, doubled on each failure up to MAX_RECONNECT_MILLIS
+    @Value("${sync.listen.reconnect-millis:1000}")
+    private long reconnectMillis;
+
+    private final AtomicLong notifications = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "change-subscriber");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        // Closing the connection wakes the thread from getNotifications
+        Connection listening = connection;
+        if (listening != null) {
+            try {
+                listening.close();
+            } catch (SQLException ignored) {
+                // closing anyway
+            }
+        }
+        thread.interrupt();
+        thread.join(POLL_MILLIS * 2L);
+    }
+
+    public long getNotifications() {
+        return notifications.get();
+    }
+
+    public long getBatches() {
+        return batches.get();
+    }
+
+    public long getResyncs() {
+        return resyncs.get();
+    }
+
+    private void run() {
+        long delay = reconnectMillis;
+        while (running) {
+            try (Connection listening = connect()) {
+                connection = listening;
+                listening.setAutoCommit(true);
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("listen " + ChangePublisher.CHANNEL);
+                }
+                resync();
+                delay = reconnectMillis;
+                listen(listening);
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                LOGGER.log(System.Logger.Level.WARNING, "Change notifications interrupted, reconnecting in "
+                        + delay + " ms", e);
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    break;
+                }
+                delay = Math.min(delay * 2, MAX_RECONNECT_MILLIS);
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    // A connection of its own rather than one held from the pool: LISTEN lasts as long as the
+    // session, and the pool would otherwise be one connection short for as long as this runs
+    private Connection connect() throws SQLException {
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+            return DriverManager.getConnection(pool.getJdbcUrl(), pool.getUsername(), pool.getPassword());
+        }
+        return dataSource.getConnection();
+    }
+
+    private void listen(Connection listening) throws SQLException {
+        PGConnection pg = listening.unwrap(PGConnection.class);
+        long idleSince = System.currentTimeMillis();
+        while (running) {
+            PGNotification[] received = pg.getNotifications(POLL_MILLIS);
+            if (received == null || received.length == 0) {
+                // A dead server or network only shows on a round trip
+                if (System.currentTimeMillis() - idleSince > KEEPALIVE_MILLIS) {
+                    if (!listening.isValid(5)) {
+                        throw new SQLException("Listening connection is no longer valid");
+                    }
+                    idleSince = System.currentTimeMillis();
+                }
+                continue;
+            }
+
+            ChangeBatch batch = new ChangeBatch(publisher.getOrigin());
+            add(batch, received);
+            long deadline = System.currentTimeMillis() + coalesceMillis;
+            for (long remaining = coalesceMillis; remaining > 0; remaining = deadline - System.currentTimeMillis()) {
+                received = pg.getNotifications((int) remaining);
+                if (received == null || received.length == 0) {
+                    break;
+                }
+                add(batch, received);
+            }
+            apply(batch);
+            idleSince = System.currentTimeMillis();
+        }
+    }
+
+    private void add(ChangeBatch batch, PGNotification[] received) {
+        for (PGNotification notification : received) {
+            batch.add(notification.getParameter());
+        }
+        notifications.addAndGet(received.length);
+    }
+
+    // A failure propagates to run(), which reconnects and resyncs, so a batch is never half lost
+    private void apply(ChangeBatch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batches.incrementAndGet();
+        for (Entity entity : Entity.values()) {
+            if (batch.isReset(entity)) {
+                refresh(entity, null);
+            } else if (!batch.ids(entity).isEmpty()) {
+                refresh(entity, batch.ids(entity));
+            }
+        }
+    }
+
+    private void resync() {
+        resyncs.incrementAndGet();
+        for (Entity entity : Entity.values()) {
+            refresh(entity, null);
+        }
+    }
+
+    private void refresh(Entity entity, Set<Integer> ids) {
+        switch (entity) {
+            case TASK -> taskService.refreshTasks(ids);
+            case USER -> userService.refreshUsers(ids);
+            case PROJECT -> projectService.refreshProjects(ids);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+-- Named constraints behind validation.mode=constraints. TaskService and UserService stop
+-- checking references and email uniqueness with queries before each write and translate
+-- violations of these names into their usual exceptions instead. Fails if existing rows
+-- point at missing users or projects, so nothing is changed until such rows are fixed.
+
+begin;
+
+alter table tasks
+	add constraint tasks_project_fk foreign key (projectId) references projects (id),
+	add constraint tasks_user_fk foreign key (userId) references users (id);
+
+-- users_email_lower_idx (migration V1) already enforces case-insensitive unique emails
+
+commit;
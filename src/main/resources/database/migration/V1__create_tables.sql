@@ -0,0 +1,38 @@
+-- Users, projects and tasks with their keys and constraints. "if not exists" lets
+-- databases created before the migration runner adopt it; their constraints are
+-- brought up to date by ../status_role_codes.sql and ../integrity_constraints.sql.
+
+create table if not exists users (
+	id int generated by default as identity primary key,
+	username varchar(50) not null,
+	email varchar(100) not null,
+	role smallint not null constraint users_role_code_check check (role between 0 and 2) -- UserRole code: 0 ADMIN, 1 USER, 2 MANAGER
+);
+
+-- Case-insensitive unique email, used by UserDAO.findByEmail and existsByEmail
+create unique index if not exists users_email_lower_idx on users (lower(email));
+
+
+create table if not exists projects (
+	id int generated by default as identity primary key,
+	name varchar(50) not null,
+	description varchar(100) not null,
+	startDate date not null,
+	endDate date -- null while the project is active (ProjectDAO.findActiveProjects)
+);
+
+-- Trigram index for ProjectDAO.searchByName (search.projects.mode=database)
+create extension if not exists pg_trgm;
+create index if not exists projects_name_trgm_idx on projects using gin (name gin_trgm_ops);
+
+
+create table if not exists tasks (
+	id int generated by default as identity primary key,
+	name varchar(50) not null,
+	description varchar(100) not null,
+	status smallint not null constraint tasks_status_code_check check (status between 0 and 3), -- TaskStatus code: 0 TODO, 1 IN_PROGRESS, 2 COMPLETED, 3 BLOCKED
+	priority int not null,
+	dueDate date not null,
+	projectId int not null constraint tasks_project_fk references projects (id),
+	userId int not null constraint tasks_user_fk references users (id)
+);
@@ -0,0 +1,24 @@
+-- Indexes behind the TaskDAO finders. Each ends with id, matching the id tie-break of
+-- TaskCriteria.Sort, so keyset pages read in index order.
+
+-- findByProjectId, streamByProjectId, countTasksByProject; also serves the foreign key
+-- check when a project is deleted
+create index if not exists tasks_project_id_idx on tasks (projectId, id);
+
+-- findByUserId, streamByUserId, reassignAll; also serves the foreign key check when a user is deleted
+create index if not exists tasks_user_id_idx on tasks (userId, id);
+
+-- findByStatus
+create index if not exists tasks_status_idx on tasks (status, id);
+
+-- dueBetween/dueBefore windows and the DUE_DATE sort
+create index if not exists tasks_due_date_idx on tasks (dueDate, id);
+
+-- PRIORITY_DESC sort and findByPriorityDesc
+create index if not exists tasks_priority_idx on tasks (priority desc, id desc);
+
+-- findOverdueTasks: open tasks only, so the index stays small
+-- while completed tasks pile up. 2 is TaskStatus.COMPLETED.
+create index if not exists tasks_open_due_date_idx on tasks (dueDate) where status <> 2;
+
+analyze tasks;
@@ -0,0 +1,22 @@
+-- Task counts per project and per user and status, kept current by TaskService with delta
+-- upserts in the transaction of each write (TaskCounterDAO). Scope 0 is a project id,
+-- scope 1 a user id. TaskCounterTool verifies and rebuilds them from tasks.
+
+create table if not exists task_counters (
+	scope smallint not null,
+	id int not null,
+	status smallint not null,
+	task_count bigint not null,
+	primary key (scope, id, status)
+);
+
+insert into task_counters (scope, id, status, task_count)
+select 0, projectId, status, count(*) from tasks group by projectId, status
+union all
+select 1, userId, status, count(*) from tasks group by userId, status
+on conflict (scope, id, status) do nothing;
+
+-- TaskCounterDAO.countOverdue: the open tasks of one project or user by due date, so the
+-- overdue count reads only the overdue ones. 2 is TaskStatus.COMPLETED.
+create index if not exists tasks_project_open_due_date_idx on tasks (projectId, dueDate) where status <> 2;
+create index if not exists tasks_user_open_due_date_idx on tasks (userId, dueDate) where status <> 2;
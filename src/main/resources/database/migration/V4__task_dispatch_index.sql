@@ -0,0 +1,4 @@
+-- TaskDAO.claimNext: a user's TODO tasks in dispatch order (highest priority, earliest due date,
+-- lowest id), so the claim reads the first unlocked entry instead of sorting.
+-- 0 is TaskStatus.TODO.
+create index if not exists tasks_user_todo_idx on tasks (userId, priority desc, dueDate, id) where status = 0;
@@ -0,0 +1,29 @@
+-- Converts existing databases from varchar status/role names to the smallint codes
+-- used by TaskStatus and UserRole. Runs in place, in one transaction; a row holding a
+-- name outside the enums maps to null and fails the not null constraint, so nothing
+-- is changed until such rows are fixed.
+
+begin;
+
+alter table tasks
+	alter column status type smallint using (
+		case upper(trim(status))
+			when 'TODO' then 0
+			when 'IN_PROGRESS' then 1
+			when 'COMPLETED' then 2
+			when 'BLOCKED' then 3
+		end
+	),
+	add constraint tasks_status_code_check check (status between 0 and 3);
+
+alter table users
+	alter column role type smallint using (
+		case upper(trim(role))
+			when 'ADMIN' then 0
+			when 'USER' then 1
+			when 'MANAGER' then 2
+		end
+	),
+	add constraint users_role_code_check check (role between 0 and 2);
+
+commit;
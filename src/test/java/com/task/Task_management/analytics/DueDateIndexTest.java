@@ -0,0 +1,112 @@
+package com.task.Task_management.analytics;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the in-memory due-date index.
+ */
+public class DueDateIndexTest
+    extends TestCase
+{
+    private static final LocalDate TODAY = LocalDate.of( 2024, 6, 1 );
+
+    private final List<Object> events = new ArrayList<>();
+
+    private static Task task( int id, TaskStatus status, LocalDate dueDate )
+    {
+        Task task = new Task( "task" + id, null, status, 1, dueDate, 10, 100 );
+        task.setId( id );
+        return task;
+    }
+
+    private DueDateIndex loadedIndex()
+    {
+        DueDateIndex index = new DueDateIndex();
+        index.setClock( Clock.fixed( TODAY.atStartOfDay( ZoneOffset.UTC ).toInstant(), ZoneOffset.UTC ) );
+        index.setApplicationEventPublisher( events::add );
+        index.afterPropertiesSet();
+        index.load( Stream.of(
+            task( 1, TaskStatus.TODO, TODAY.minusDays( 3 ) ),
+            task( 2, TaskStatus.IN_PROGRESS, TODAY.plusDays( 3 ) ),
+            task( 3, TaskStatus.COMPLETED, TODAY.minusDays( 3 ) ),
+            task( 4, TaskStatus.BLOCKED, TODAY.minusDays( 1 ) ),
+            task( 5, TaskStatus.TODO, TODAY ) ) );
+        return index;
+    }
+
+    public void testOverdueSkipsCompletedAndToday()
+    {
+        DueDateIndex index = loadedIndex();
+
+        int[] ids = index.overdueIds( TODAY );
+        assertEquals( 2, ids.length );
+        assertEquals( 1, ids[0] );
+        assertEquals( 4, ids[1] );
+        assertEquals( 2, index.countOverdue( TODAY ) );
+    }
+
+    public void testDueBetweenIncludesBothBoundsAndCompleted()
+    {
+        DueDateIndex index = loadedIndex();
+
+        int[] ids = index.dueBetween( TODAY.minusDays( 3 ), TODAY );
+        assertEquals( 4, ids.length );
+        assertEquals( 0, index.dueBetween( TODAY.plusDays( 4 ), TODAY.plusDays( 10 ) ).length );
+        assertEquals( 0, index.dueBetween( TODAY, TODAY.minusDays( 1 ) ).length );
+    }
+
+    public void testChangesMoveTasksBetweenBuckets()
+    {
+        DueDateIndex index = loadedIndex();
+
+        index.onTaskSaved( task( 1, TaskStatus.COMPLETED, TODAY.minusDays( 3 ) ) );
+        index.onTaskSaved( task( 2, TaskStatus.TODO, TODAY.minusDays( 2 ) ) );
+        index.onTaskDeleted( 4 );
+        index.onTaskSaved( task( 6, TaskStatus.TODO, TODAY.minusDays( 5 ) ) );
+
+        int[] ids = index.overdueIds( TODAY );
+        assertEquals( 2, ids.length );
+        assertEquals( 6, ids[0] );
+        assertEquals( 2, ids[1] );
+        assertEquals( 5, index.dueBetween( TODAY.minusDays( 5 ), TODAY ).length );
+    }
+
+    public void testRollOverPublishesTasksThatBecameOverdue()
+    {
+        DueDateIndex index = loadedIndex();
+
+        index.rollOver( TODAY );
+        assertTrue( events.isEmpty() );
+
+        index.rollOver( TODAY.plusDays( 1 ) );
+        assertEquals( 1, events.size() );
+        TasksOverdueEvent event = (TasksOverdueEvent) events.get( 0 );
+        assertEquals( TODAY.plusDays( 1 ), event.today() );
+        assertEquals( List.of( 5 ), event.taskIds() );
+
+        // Two missed midnights are reported together
+        index.rollOver( TODAY.plusDays( 5 ) );
+        assertEquals( 2, events.size() );
+        assertEquals( List.of( 2 ), ( (TasksOverdueEvent) events.get( 1 ) ).taskIds() );
+    }
+
+    public void testInvalidateDropsContents()
+    {
+        DueDateIndex index = loadedIndex();
+
+        index.invalidate();
+        assertFalse( index.isLoaded() );
+        index.onTaskSaved( task( 7, TaskStatus.TODO, TODAY.minusDays( 1 ) ) );
+        assertFalse( index.isLoaded() );
+    }
+}
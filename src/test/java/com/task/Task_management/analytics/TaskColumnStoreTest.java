@@ -0,0 +1,117 @@
+package com.task.Task_management.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.task.Task_management.dao.TaskCriteria;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskCounts;
+import com.task.Task_management.model.TaskStatus;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the columnar task store.
+ */
+public class TaskColumnStoreTest
+    extends TestCase
+{
+    private static final LocalDate TODAY = LocalDate.of( 2024, 6, 1 );
+
+    private static Task task( int id, TaskStatus status, int priority, LocalDate dueDate, int projectId, int userId )
+    {
+        Task task = new Task( "task" + id, null, status, priority, dueDate, projectId, userId );
+        task.setId( id );
+        return task;
+    }
+
+    private TaskColumnStore loadedStore()
+    {
+        TaskColumnStore store = new TaskColumnStore();
+        store.load( Stream.of(
+            task( 1, TaskStatus.TODO, 1, TODAY.minusDays( 3 ), 10, 100 ),
+            task( 2, TaskStatus.IN_PROGRESS, 3, TODAY.plusDays( 3 ), 10, 101 ),
+            task( 3, TaskStatus.COMPLETED, 5, TODAY.minusDays( 3 ), 20, 100 ),
+            task( 4, TaskStatus.BLOCKED, 2, TODAY.minusDays( 1 ), 20, 101 ) ) );
+        return store;
+    }
+
+    public void testCountByCriteria()
+    {
+        TaskColumnStore store = loadedStore();
+
+        TaskCounts all = store.countByCriteria( TaskCriteria.all(), TODAY );
+        assertEquals( 4, all.getTotal() );
+        assertEquals( 1, all.getCompleted() );
+        assertEquals( 2, all.getOverdue() );
+
+        TaskCounts project = store.countByCriteria( TaskCriteria.all().projectId( 20 ), TODAY );
+        assertEquals( 2, project.getTotal() );
+        assertEquals( 1, project.getBlocked() );
+    }
+
+    public void testFindIdsFiltersAndLimits()
+    {
+        TaskColumnStore store = loadedStore();
+
+        int[] ids = store.findIds( TaskCriteria.all().userId( 100 ) );
+        assertEquals( 2, ids.length );
+        assertEquals( 1, ids[0] );
+        assertEquals( 3, ids[1] );
+
+        assertEquals( 1, store.findIds( TaskCriteria.all().priorityBetween( 2, 5 ).limit( 1 ) ).length );
+    }
+
+    public void testChangesAreApplied()
+    {
+        TaskColumnStore store = loadedStore();
+
+        store.onTaskSaved( task( 1, TaskStatus.COMPLETED, 1, TODAY.minusDays( 3 ), 10, 100 ) );
+        store.onTaskSaved( task( 5, TaskStatus.TODO, 4, TODAY, 30, 102 ) );
+        store.onTaskDeleted( 2 );
+
+        assertEquals( 4, store.size() );
+        Map<Integer, TaskCounts> byProject = store.countByProject( TODAY );
+        assertEquals( 1, byProject.get( 10 ).getCompleted() );
+        assertEquals( 1, byProject.get( 10 ).getTotal() );
+        assertEquals( 1, byProject.get( 30 ).getTodo() );
+    }
+
+    public void testChangesDuringLoadAreReplayed()
+    {
+        TaskColumnStore store = new TaskColumnStore();
+        store.load( Stream.of(
+            task( 1, TaskStatus.TODO, 1, TODAY, 10, 100 ),
+            task( 2, TaskStatus.TODO, 1, TODAY, 10, 100 ) )
+            .peek( t -> {
+                if ( t.getId() == 1 )
+                {
+                    store.onTaskSaved( task( 3, TaskStatus.TODO, 1, TODAY, 20, 100 ) );
+                    store.onTaskDeleted( 2 );
+                }
+            } ) );
+
+        assertEquals( 2, store.size() );
+        Map<Integer, TaskCounts> byProject = store.countByProject( TODAY );
+        assertEquals( 1, byProject.get( 10 ).getTotal() );
+        assertEquals( 1, byProject.get( 20 ).getTotal() );
+    }
+
+    public void testGroupsSparseIds()
+    {
+        TaskColumnStore store = new TaskColumnStore();
+        store.load( Stream.of(
+            task( 1, TaskStatus.TODO, 1, TODAY.minusDays( 1 ), 2_000_000_000, 7 ),
+            task( 2, TaskStatus.COMPLETED, 1, TODAY, 3, 7 ),
+            task( 3, TaskStatus.TODO, 1, TODAY, 2_000_000_000, 900_000_000 ) ) );
+
+        Map<Integer, TaskCounts> byProject = store.countByProject( TODAY );
+        assertEquals( List.of( 3, 2_000_000_000 ), List.copyOf( byProject.keySet() ) );
+        assertEquals( 2, byProject.get( 2_000_000_000 ).getTodo() );
+        assertEquals( 1, byProject.get( 2_000_000_000 ).getOverdue() );
+        assertEquals( 1, byProject.get( 3 ).getCompleted() );
+        assertEquals( List.of( 7, 900_000_000 ), List.copyOf( store.countByUser( TODAY ).keySet() ) );
+    }
+}
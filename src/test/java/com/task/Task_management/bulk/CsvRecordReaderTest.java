@@ -0,0 +1,75 @@
+package com.task.Task_management.bulk;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the CSV reader and writer used by the bulk loader.
+ */
+public class CsvRecordReaderTest
+    extends TestCase
+{
+    public void testReadsQuotedFieldsAndNulls() throws Exception
+    {
+        CsvRecordReader reader = new CsvRecordReader(
+                new StringReader("name,description\r\n\"a, \"\"b\"\"\",\n\"line\nbreak\",\"\"\n"));
+
+        assertEquals(Arrays.asList("name", "description"), reader.next());
+        assertEquals(Arrays.asList("a, \"b\"", null), reader.next());
+        assertEquals(Arrays.asList("line\nbreak", ""), reader.next());
+        assertNull(reader.next());
+    }
+
+    public void testWrittenLinesReadBack() throws Exception
+    {
+        String[] values = { "plain", "needs, quoting", "say \"hi\"", "", null };
+        StringBuilder line = new StringBuilder();
+        BulkLoader.appendCsvLine(line, values);
+
+        List<String> record = new CsvRecordReader(new StringReader(line.toString())).next();
+        assertEquals(Arrays.asList(values), record);
+    }
+
+    public void testSkipsBlankLines() throws Exception
+    {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b\n\n\r\n1,2\n\n"));
+
+        assertEquals(Arrays.asList("a", "b"), reader.next());
+        assertEquals(Arrays.asList("1", "2"), reader.next());
+        assertNull(reader.next());
+    }
+
+    public void testTaskCsvRoundTrip() throws Exception
+    {
+        StringBuilder csv = new StringBuilder();
+        BulkLoader.appendCsvLine(csv, new String[] { "name", "description", "status", "priority", "dueDate", "projectId", "userId" });
+        BulkLoader.appendCsvLine(csv, new String[] { "Fix \"login\", again", null, "0", "3", "2026-01-31", "10", "20" });
+        csv.append("\n");
+        BulkLoader.appendCsvLine(csv, new String[] { "Two\nlines", "", "COMPLETED", "1", "2026-02-01", "11", "21" });
+        csv.append("\n");
+
+        Iterator<Task> tasks = new BulkLoader().readTasksCsv(new StringReader(csv.toString()));
+
+        Task first = tasks.next();
+        assertEquals("Fix \"login\", again", first.getName());
+        assertNull(first.getDescription());
+        assertEquals(TaskStatus.TODO, first.getStatus());
+        assertEquals(LocalDate.of(2026, 1, 31), first.getDueDate());
+        assertEquals(10, first.getProjectId());
+
+        Task second = tasks.next();
+        assertEquals("Two\nlines", second.getName());
+        assertEquals("", second.getDescription());
+        assertEquals(TaskStatus.COMPLETED, second.getStatus());
+        assertEquals(21, second.getUserId());
+        assertFalse(tasks.hasNext());
+    }
+}
@@ -0,0 +1,134 @@
+package com.task.Task_management.cache;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.task.Task_management.model.User;
+import com.task.Task_management.model.UserRole;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the read-through entity cache.
+ */
+public class EntityCacheTest
+    extends TestCase
+{
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private User load( int id )
+    {
+        loads.incrementAndGet();
+        User user = new User( "user" + id, "user" + id + "@example.com", UserRole.USER );
+        user.setId( id );
+        return user;
+    }
+
+    public void testReadThroughAndInvalidate()
+    {
+        EntityCache<User> cache = new EntityCache<>( "users", User::new );
+
+        cache.get( 1, this::load );
+        cache.get( 1, this::load );
+        assertEquals( 1, loads.get() );
+        assertEquals( 1, cache.getHits() );
+        assertEquals( 1, cache.getMisses() );
+
+        cache.invalidate( 1 );
+        cache.get( 1, this::load );
+        assertEquals( 2, loads.get() );
+    }
+
+    public void testCallersGetCopies()
+    {
+        EntityCache<User> cache = new EntityCache<>( "users", User::new );
+
+        cache.get( 1, this::load ).setEmail( "changed@example.com" );
+        assertEquals( "user1@example.com", cache.get( 1, this::load ).getEmail() );
+    }
+
+    public void testEvictsLeastRecentlyUsed()
+    {
+        EntityCache<User> cache = new EntityCache<>( "users", User::new );
+        cache.setMaxSize( 2 );
+
+        cache.get( 1, this::load );
+        cache.get( 2, this::load );
+        cache.get( 1, this::load );
+        cache.get( 3, this::load );
+
+        assertEquals( 2, cache.size() );
+        assertNotNull( cache.getIfPresent( 1 ) );
+        assertNull( cache.getIfPresent( 2 ) );
+        assertEquals( 1, cache.getEvictions() );
+    }
+
+    public void testGetAllLoadsOnlyMisses()
+    {
+        EntityCache<User> cache = new EntityCache<>( "users", User::new );
+        cache.get( 1, this::load );
+
+        Map<Integer, User> users = cache.getAll( Arrays.asList( 1, 2, 2, 3, 99 ), ids -> {
+            assertEquals( Set.of( 2, 3, 99 ), ids );
+            Map<Integer, User> loaded = new HashMap<>();
+            for ( int id : ids )
+            {
+                if ( id != 99 )
+                {
+                    loaded.put( id, load( id ) );
+                }
+            }
+            return loaded;
+        } );
+
+        assertEquals( 3, users.size() );
+        assertFalse( users.containsKey( 99 ) );
+        assertEquals( 3, loads.get() );
+        assertNotNull( cache.getIfPresent( 3 ) );
+    }
+
+    public void testDisabledCacheAlwaysLoads()
+    {
+        EntityCache<User> cache = new EntityCache<>( "users", User::new );
+        cache.setEnabled( false );
+
+        cache.get( 1, this::load );
+        cache.get( 1, this::load );
+        assertEquals( 2, loads.get() );
+        assertEquals( 0, cache.size() );
+    }
+
+    public void testWritingTransactionBypassesCache()
+    {
+        EntityCache<User> cache = new EntityCache<>( "users", User::new );
+        cache.get( 1, this::load );
+
+        TransactionSynchronizationManager.initSynchronization();
+        try
+        {
+            cache.markWritten();
+            assertNull( cache.getIfPresent( 1 ) );
+            cache.get( 2, this::load );
+            cache.get( 2, this::load );
+            assertEquals( 3, loads.get() );
+
+            for ( TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations() )
+            {
+                synchronization.afterCompletion( TransactionSynchronization.STATUS_ROLLED_BACK );
+            }
+        }
+        finally
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Rows loaded by the transaction were not kept, earlier ones still are
+        assertNull( cache.getIfPresent( 2 ) );
+        assertNotNull( cache.getIfPresent( 1 ) );
+    }
+}
@@ -0,0 +1,59 @@
+package com.task.Task_management.dao;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import com.task.Task_management.dao.TaskCounterDAO.Deltas;
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for task counter delta netting.
+ */
+public class TaskCounterDeltasTest
+    extends TestCase
+{
+    private static Task task( int projectId, int userId, TaskStatus status )
+    {
+        return new Task( "Task", "Description", status, 3, LocalDate.of( 2026, 1, 31 ), projectId, userId );
+    }
+
+    public void testUnchangedCountedColumnsNetToNothing()
+    {
+        Deltas deltas = new Deltas().remove( task( 1, 2, TaskStatus.TODO ) ).add( task( 1, 2, TaskStatus.TODO ) );
+
+        assertTrue( deltas.isEmpty() );
+    }
+
+    public void testStatusChangeMovesBothCounters()
+    {
+        Deltas deltas = new Deltas().remove( task( 1, 2, TaskStatus.TODO ) ).add( task( 1, 2, TaskStatus.COMPLETED ) );
+
+        assertFalse( deltas.isEmpty() );
+        deltas.add( 1, 2, TaskStatus.TODO, 1 ).add( 1, 2, TaskStatus.COMPLETED, -1 );
+        assertTrue( deltas.isEmpty() );
+    }
+
+    public void testRowsAreInLockOrder()
+    {
+        Deltas deltas = new Deltas().add( 9, 5, TaskStatus.COMPLETED, 1 ).add( 2, 7, TaskStatus.TODO, -1 )
+            .add( 9, 5, TaskStatus.TODO, 1 );
+
+        List<Object[]> rows = deltas.rows();
+        assertEquals( 6, rows.size() );
+        Object[][] expected = {
+            { (short) 0, 2, TaskStatus.TODO.getCode(), -1L },
+            { (short) 0, 9, TaskStatus.TODO.getCode(), 1L },
+            { (short) 0, 9, TaskStatus.COMPLETED.getCode(), 1L },
+            { (short) 1, 5, TaskStatus.TODO.getCode(), 1L },
+            { (short) 1, 5, TaskStatus.COMPLETED.getCode(), 1L },
+            { (short) 1, 7, TaskStatus.TODO.getCode(), -1L } };
+        for ( int i = 0; i < expected.length; i++ )
+        {
+            assertTrue( Arrays.equals( expected[i], rows.get( i ) ) );
+        }
+    }
+}
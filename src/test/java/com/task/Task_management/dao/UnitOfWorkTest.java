@@ -0,0 +1,202 @@
+package com.task.Task_management.dao;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the batching unit of work, against a JdbcTemplate that records its batches.
+ */
+public class UnitOfWorkTest
+    extends TestCase
+{
+    private final Map<String, List<Object[]>> batches = new LinkedHashMap<>();
+
+    private final AtomicInteger commits = new AtomicInteger();
+
+    private final AtomicInteger rollbacks = new AtomicInteger();
+
+    // Ids with no row: their updates report 0 rows
+    private final Set<Integer> missingIds = new HashSet<>();
+
+    private final JdbcTemplate jdbc = new JdbcTemplate()
+    {
+        @Override
+        public int[] batchUpdate( String sql, List<Object[]> batchArgs )
+        {
+            batches.computeIfAbsent( sql, key -> new ArrayList<>() ).addAll( batchArgs );
+            int[] counts = new int[batchArgs.size()];
+            for ( int i = 0; i < counts.length; i++ )
+            {
+                Object[] args = batchArgs.get( i );
+                counts[i] = missingIds.contains( args[args.length - 1] ) ? 0 : 1;
+            }
+            return counts;
+        }
+    };
+
+    private final PlatformTransactionManager transactionManager = new PlatformTransactionManager()
+    {
+        public TransactionStatus getTransaction( TransactionDefinition definition )
+        {
+            return new SimpleTransactionStatus();
+        }
+
+        public void commit( TransactionStatus status )
+        {
+            commits.incrementAndGet();
+        }
+
+        public void rollback( TransactionStatus status )
+        {
+            rollbacks.incrementAndGet();
+        }
+    };
+
+    private UnitOfWork begin()
+    {
+        UnitOfWork unitOfWork = new UnitOfWork( jdbc, transactionManager, 500 );
+        unitOfWork.bind();
+        return unitOfWork;
+    }
+
+    private static Map<String, Object> columns( Object... pairs )
+    {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        for ( int i = 0; i < pairs.length; i += 2 )
+        {
+            columns.put( (String) pairs[i], pairs[i + 1] );
+        }
+        return columns;
+    }
+
+    public void testMergesRowsAndGroupsByChangedColumns()
+    {
+        AtomicInteger written = new AtomicInteger();
+        try ( UnitOfWork unitOfWork = begin() )
+        {
+            PartialUpdates.update( jdbc, "tasks", 1, columns( "status", 2 ), written::incrementAndGet );
+            PartialUpdates.update( jdbc, "tasks", 2, columns( "status", 2 ), written::incrementAndGet );
+            PartialUpdates.update( jdbc, "tasks", 1, columns( "priority", 5 ), written::incrementAndGet );
+
+            assertEquals( 2, unitOfWork.getPendingRows() );
+            assertTrue( batches.isEmpty() );
+            unitOfWork.commit();
+        }
+
+        assertEquals( 1, commits.get() );
+        assertEquals( 3, written.get() );
+        assertEquals( 2, batches.size() );
+        assertEquals( 1, batches.get( "update tasks set priority = ?, status = ? where id = ?" ).size() );
+        assertEquals( 2, batches.get( "update tasks set status = ? where id = ?" ).get( 0 )[1] );
+        assertNull( UnitOfWork.current() );
+    }
+
+    // updateTask queues the row, then updateTaskStatus writes it directly: the direct write reads
+    // the queued columns and flushes them first, so the commit does not write them over it
+    public void testTwoWritesToTheSameTask()
+    {
+        AtomicInteger written = new AtomicInteger();
+        try ( UnitOfWork unitOfWork = begin() )
+        {
+            PartialUpdates.update( jdbc, "tasks", 1, columns( "status", 1, "name", "a" ), written::incrementAndGet );
+            PartialUpdates.update( jdbc, "tasks", 2, columns( "status", 1 ), written::incrementAndGet );
+            PartialUpdates.update( jdbc, "users", 1, columns( "email", "a@example.com" ), written::incrementAndGet );
+            assertEquals( columns( "name", "a", "status", 1 ), unitOfWork.pendingColumns( "tasks", 1 ) );
+
+            unitOfWork.flush( "tasks", 1 );
+            assertEquals( 1, batches.get( "update tasks set name = ?, status = ? where id = ?" ).size() );
+            assertTrue( unitOfWork.pendingColumns( "tasks", 1 ).isEmpty() );
+            assertEquals( 2, unitOfWork.getPendingRows() );
+
+            PartialUpdates.update( jdbc, "tasks", 1, columns( "priority", 5 ), written::incrementAndGet );
+            unitOfWork.flush( "tasks" );
+            assertEquals( 1, batches.get( "update tasks set priority = ? where id = ?" ).size() );
+            assertEquals( 1, batches.get( "update tasks set status = ? where id = ?" ).size() );
+            assertEquals( 1, unitOfWork.getPendingRows() );
+            assertEquals( 0, written.get() );
+            unitOfWork.commit();
+        }
+
+        assertEquals( 4, written.get() );
+        assertEquals( 4, batches.size() );
+        assertEquals( 1, batches.get( "update tasks set name = ?, status = ? where id = ?" ).size() );
+        assertEquals( 1, batches.get( "update tasks set priority = ? where id = ?" ).size() );
+    }
+
+    public void testCloseWithoutCommitDiscardsUpdates()
+    {
+        try ( UnitOfWork unitOfWork = begin() )
+        {
+            PartialUpdates.update( jdbc, "users", 1, columns( "email", "a@example.com" ), () -> fail() );
+        }
+
+        assertTrue( batches.isEmpty() );
+        assertEquals( 0, commits.get() );
+        assertEquals( 1, rollbacks.get() );
+        assertNull( UnitOfWork.current() );
+    }
+
+    public void testMissingRowFailsTheCommit()
+    {
+        missingIds.add( 2 );
+        try ( UnitOfWork unitOfWork = begin() )
+        {
+            PartialUpdates.update( jdbc, "tasks", 1, columns( "status", 2 ), () -> fail() );
+            PartialUpdates.update( jdbc, "tasks", 2, columns( "status", 2 ), () -> fail() );
+            unitOfWork.commit();
+            fail( "Expected IncorrectUpdateSemanticsDataAccessException" );
+        }
+        catch ( IncorrectUpdateSemanticsDataAccessException expected )
+        {
+            assertEquals( "No tasks row with id 2 to update", expected.getMessage() );
+        }
+
+        assertEquals( 0, commits.get() );
+        assertEquals( 1, rollbacks.get() );
+    }
+
+    public void testFailuresAreTranslatedPerRow()
+    {
+        missingIds.add( 2 );
+        try ( UnitOfWork unitOfWork = begin() )
+        {
+            PartialUpdates.update( jdbc, "tasks", 1, columns( "status", 2 ), () -> { } );
+            PartialUpdates.update( jdbc, "tasks", 2, columns( "status", 2 ), () -> { } );
+            unitOfWork.onFailure( "tasks", 1, e -> new IllegalStateException( "task 1" ) );
+            unitOfWork.onFailure( "tasks", 2, e -> new IllegalStateException( "task 2" ) );
+            unitOfWork.commit();
+            fail( "Expected IllegalStateException" );
+        }
+        catch ( IllegalStateException expected )
+        {
+            assertEquals( "task 2", expected.getMessage() );
+        }
+    }
+
+    public void testOnlyOneUnitOfWorkPerThread()
+    {
+        try ( UnitOfWork unitOfWork = begin() )
+        {
+            begin();
+            fail( "Expected IllegalStateException" );
+        }
+        catch ( IllegalStateException expected )
+        {
+            assertNull( UnitOfWork.current() );
+        }
+    }
+}
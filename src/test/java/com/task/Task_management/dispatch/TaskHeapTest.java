@@ -0,0 +1,85 @@
+package com.task.Task_management.dispatch;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the indexed dispatch heap.
+ */
+public class TaskHeapTest
+    extends TestCase
+{
+    public void testOrdersByPriorityThenDueDayThenId()
+    {
+        TaskHeap heap = new TaskHeap();
+        heap.put( 1, 3, 100 );
+        heap.put( 2, 5, 200 );
+        heap.put( 3, 3, 50 );
+        heap.put( 4, 3, 50 );
+
+        assertEquals( 2, heap.peek() );
+        assertTrue( Arrays.equals( new int[] { 2, 3, 4, 1 }, heap.topK( 10 ) ) );
+        assertTrue( Arrays.equals( new int[] { 2, 3 }, heap.topK( 2 ) ) );
+        assertEquals( 4, heap.size() );
+    }
+
+    public void testPutMovesAndRemoveDeletes()
+    {
+        TaskHeap heap = new TaskHeap();
+        heap.put( 1, 1, 10 );
+        heap.put( 2, 2, 10 );
+        heap.put( 3, 3, 10 );
+
+        heap.put( 1, 9, 10 );
+        assertEquals( 1, heap.peek() );
+        heap.put( 1, 0, 10 );
+        assertEquals( 3, heap.peek() );
+
+        assertTrue( heap.remove( 3 ) );
+        assertFalse( heap.remove( 3 ) );
+        assertTrue( Arrays.equals( new int[] { 2, 1 }, heap.topK( 5 ) ) );
+
+        heap.remove( 2 );
+        heap.remove( 1 );
+        assertEquals( -1, heap.peek() );
+        assertEquals( 0, heap.topK( 3 ).length );
+    }
+
+    public void testRandomOperationsMatchSortedOrder()
+    {
+        Random random = new Random( 42 );
+        TaskHeap heap = new TaskHeap();
+        int[][] keys = new int[200][];
+        for ( int i = 0; i < 5000; i++ )
+        {
+            int id = random.nextInt( keys.length );
+            if ( random.nextInt( 4 ) == 0 )
+            {
+                heap.remove( id );
+                keys[id] = null;
+            }
+            else
+            {
+                int priority = random.nextInt( 5 );
+                int dueDay = random.nextInt( 30 );
+                heap.put( id, priority, dueDay );
+                keys[id] = new int[] { priority, dueDay };
+            }
+        }
+
+        Integer[] expected = IntStream.range( 0, keys.length )
+            .filter( id -> keys[id] != null ).boxed().toArray( Integer[]::new );
+        Arrays.sort( expected, ( a, b ) -> keys[a][0] != keys[b][0] ? keys[b][0] - keys[a][0]
+            : keys[a][1] != keys[b][1] ? keys[a][1] - keys[b][1] : a - b );
+
+        int[] top = heap.topK( keys.length );
+        assertEquals( expected.length, top.length );
+        for ( int i = 0; i < top.length; i++ )
+        {
+            assertEquals( expected[i].intValue(), top[i] );
+        }
+    }
+}
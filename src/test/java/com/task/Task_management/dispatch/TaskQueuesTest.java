@@ -0,0 +1,74 @@
+package com.task.Task_management.dispatch;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import com.task.Task_management.model.Task;
+import com.task.Task_management.model.TaskStatus;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the per-user dispatch queues.
+ */
+public class TaskQueuesTest
+    extends TestCase
+{
+    private static final LocalDate TODAY = LocalDate.of( 2024, 6, 1 );
+
+    private static Task task( int id, TaskStatus status, int priority, LocalDate dueDate, int userId )
+    {
+        Task task = new Task( "task" + id, null, status, priority, dueDate, 10, userId );
+        task.setId( id );
+        return task;
+    }
+
+    private TaskQueues loadedQueues()
+    {
+        TaskQueues queues = new TaskQueues();
+        queues.load( Stream.of(
+            task( 1, TaskStatus.TODO, 2, TODAY, 100 ),
+            task( 2, TaskStatus.TODO, 4, TODAY.plusDays( 2 ), 100 ),
+            task( 3, TaskStatus.IN_PROGRESS, 5, TODAY, 100 ),
+            task( 4, TaskStatus.TODO, 4, TODAY.plusDays( 1 ), 100 ),
+            task( 5, TaskStatus.TODO, 1, TODAY, 101 ) ) );
+        return queues;
+    }
+
+    public void testOnlyTodoTasksAreQueuedPerUser()
+    {
+        TaskQueues queues = loadedQueues();
+
+        assertTrue( Arrays.equals( new int[] { 4, 2, 1 }, queues.peekTopK( 100, 5 ) ) );
+        assertTrue( Arrays.equals( new int[] { 5 }, queues.peekTopK( 101, 5 ) ) );
+        assertEquals( 0, queues.peekTopK( 102, 5 ).length );
+    }
+
+    public void testChangesReorderAndMoveTasks()
+    {
+        TaskQueues queues = loadedQueues();
+
+        // Priority change, claim, reassignment and a blocked task coming back
+        queues.onTaskSaved( task( 1, TaskStatus.TODO, 5, TODAY, 100 ) );
+        queues.onTaskSaved( task( 4, TaskStatus.IN_PROGRESS, 4, TODAY.plusDays( 1 ), 100 ) );
+        queues.onTaskSaved( task( 2, TaskStatus.TODO, 4, TODAY.plusDays( 2 ), 101 ) );
+        queues.onTaskSaved( task( 3, TaskStatus.TODO, 5, TODAY.minusDays( 1 ), 100 ) );
+
+        assertTrue( Arrays.equals( new int[] { 3, 1 }, queues.peekTopK( 100, 5 ) ) );
+        assertTrue( Arrays.equals( new int[] { 2, 5 }, queues.peekTopK( 101, 5 ) ) );
+
+        queues.onTaskDeleted( 5 );
+        assertEquals( 1, queues.size( 101 ) );
+    }
+
+    public void testInvalidateDropsContents()
+    {
+        TaskQueues queues = loadedQueues();
+
+        queues.invalidate();
+        assertFalse( queues.isLoaded() );
+        queues.onTaskSaved( task( 6, TaskStatus.TODO, 1, TODAY, 100 ) );
+        assertFalse( queues.isLoaded() );
+    }
+}
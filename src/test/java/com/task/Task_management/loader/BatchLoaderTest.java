@@ -0,0 +1,105 @@
+package com.task.Task_management.loader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.task.Task_management.model.User;
+import com.task.Task_management.model.UserRole;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the request-coalescing batch loader.
+ */
+public class BatchLoaderTest
+    extends TestCase
+{
+    private final List<Set<Integer>> calls = new ArrayList<>();
+
+    private ScheduledExecutorService scheduler;
+
+    protected void setUp()
+    {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    protected void tearDown()
+    {
+        scheduler.shutdownNow();
+    }
+
+    private synchronized Map<Integer, User> loadUsers( Set<Integer> ids )
+    {
+        calls.add( Set.copyOf( ids ) );
+        Map<Integer, User> users = new HashMap<>();
+        for ( int id : ids )
+        {
+            if ( id != 99 )
+            {
+                User user = new User( "user" + id, "user" + id + "@example.com", UserRole.USER );
+                user.setId( id );
+                users.put( id, user );
+            }
+        }
+        return users;
+    }
+
+    private BatchLoader<User> loader( long windowMillis, int maxBatchSize )
+    {
+        return new BatchLoader<>( "users", this::loadUsers, User::new, scheduler, Runnable::run,
+                                  TimeUnit.MILLISECONDS.toNanos( windowMillis ), maxBatchSize );
+    }
+
+    public void testCoalescesAndDeduplicatesWithinWindow()
+    {
+        BatchLoader<User> loader = loader( 50, 100 );
+
+        CompletableFuture<User> first = loader.load( 1 );
+        CompletableFuture<User> second = loader.load( 2 );
+        CompletableFuture<User> again = loader.load( 1 );
+        CompletableFuture<User> missing = loader.load( 99 );
+
+        assertEquals( "user1", first.join().getUsername() );
+        assertEquals( "user2", second.join().getUsername() );
+        assertNull( missing.join() );
+        assertEquals( 1, calls.size() );
+        assertEquals( Set.of( 1, 2, 99 ), calls.get( 0 ) );
+
+        // Repeated ids share the lookup but not the instance
+        assertNotSame( first.join(), again.join() );
+        assertEquals( 1, loader.getBatches() );
+        assertEquals( 4, loader.getRequests() );
+    }
+
+    public void testFullBatchDispatchesBeforeWindowCloses()
+    {
+        BatchLoader<User> loader = loader( 60_000, 2 );
+
+        CompletableFuture<User> first = loader.load( 1 );
+        CompletableFuture<User> second = loader.load( 2 );
+
+        assertTrue( first.isDone() );
+        assertTrue( second.isDone() );
+        assertEquals( 1, calls.size() );
+    }
+
+    public void testFailureReachesEveryCaller()
+    {
+        BatchLoader<User> loader = new BatchLoader<>( "users", ids -> {
+            throw new IllegalStateException( "down" );
+        }, User::new, scheduler, Runnable::run, TimeUnit.MINUTES.toNanos( 1 ), 2 );
+
+        CompletableFuture<User> first = loader.load( 1 );
+        CompletableFuture<User> second = loader.load( 2 );
+
+        assertTrue( first.isCompletedExceptionally() );
+        assertTrue( second.isCompletedExceptionally() );
+    }
+}
@@ -0,0 +1,58 @@
+package com.task.Task_management.metrics;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the lock-free latency histogram.
+ */
+public class LatencyHistogramTest
+    extends TestCase
+{
+    public void testBucketsCoverEveryValue()
+    {
+        long previousHighest = -1;
+        for ( int index = 0; index < LatencyHistogram.bucketIndex( Long.MAX_VALUE >>> 21 ); index++ )
+        {
+            long highest = LatencyHistogram.highestValueInBucket( index );
+            assertEquals( index, LatencyHistogram.bucketIndex( previousHighest + 1 ) );
+            assertEquals( index, LatencyHistogram.bucketIndex( highest ) );
+            previousHighest = highest;
+        }
+    }
+
+    public void testPercentilesWithinBucketPrecision()
+    {
+        LatencyHistogram histogram = new LatencyHistogram( "test" );
+        for ( int micros = 1; micros <= 1000; micros++ )
+        {
+            histogram.record( micros * 1000L );
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals( 1000, snapshot.getCount() );
+        assertEquals( 1000000, snapshot.getMaxNanos() );
+        assertEquals( 500500, snapshot.getMeanNanos() );
+        assertWithin( 500000, snapshot.getP50Nanos() );
+        assertWithin( 990000, snapshot.getP99Nanos() );
+        assertWithin( 999000, snapshot.getP999Nanos() );
+    }
+
+    public void testErrorsAndReset()
+    {
+        LatencyHistogram histogram = new LatencyHistogram( "test" );
+        histogram.record( 10 );
+        histogram.recordError( 20 );
+        assertEquals( 2, histogram.snapshot().getCount() );
+        assertEquals( 1, histogram.snapshot().getErrors() );
+
+        histogram.reset();
+        assertEquals( 0, histogram.snapshot().getCount() );
+        assertEquals( 0, histogram.snapshot().getP99Nanos() );
+    }
+
+    private static void assertWithin( long expected, long actual )
+    {
+        assertTrue( "expected about " + expected + " but was " + actual,
+            actual >= expected && actual <= expected + expected / 32 );
+    }
+}
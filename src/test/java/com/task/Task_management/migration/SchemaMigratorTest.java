@@ -0,0 +1,49 @@
+package com.task.Task_management.migration;
+
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for migration discovery and checksum validation.
+ */
+public class SchemaMigratorTest
+    extends TestCase
+{
+    public void testFindsMigrationsInVersionOrder()
+    {
+        List<Migration> migrations = new SchemaMigrator( null ).findMigrations();
+
+        assertTrue( migrations.size() >= 2 );
+        assertEquals( 1, migrations.get( 0 ).version() );
+        assertEquals( "create_tables", migrations.get( 0 ).description() );
+        for ( int i = 1; i < migrations.size(); i++ )
+        {
+            assertTrue( migrations.get( i - 1 ).version() < migrations.get( i ).version() );
+        }
+    }
+
+    public void testChecksumIgnoresLineEndings()
+    {
+        assertEquals( SchemaMigrator.checksum( "select 1;\nselect 2;\n" ),
+                      SchemaMigrator.checksum( "select 1;\r\nselect 2;\r\n" ) );
+        assertFalse( SchemaMigrator.checksum( "select 1;" ) == SchemaMigrator.checksum( "select 2;" ) );
+    }
+
+    public void testChangedMigrationIsRejected()
+    {
+        Migration migration = new Migration( 1, "create_tables", "select 1;", SchemaMigrator.checksum( "select 1;" ) );
+
+        SchemaMigrator.validate( List.of( migration ), Map.of( 1, migration.checksum() ) );
+        try
+        {
+            SchemaMigrator.validate( List.of( migration ), Map.of( 1, migration.checksum() + 1 ) );
+            fail( "Expected IllegalStateException" );
+        }
+        catch ( IllegalStateException expected )
+        {
+            assertTrue( expected.getMessage().contains( "V1__create_tables" ) );
+        }
+    }
+}
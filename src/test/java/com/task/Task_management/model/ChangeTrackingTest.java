@@ -0,0 +1,55 @@
+package com.task.Task_management.model;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for entity change tracking.
+ */
+public class ChangeTrackingTest
+    extends TestCase
+{
+    private Task loadedTask()
+    {
+        Task task = new Task( "Write docs", "User guide", TaskStatus.TODO, 3, LocalDate.of( 2026, 1, 31 ), 1, 1 );
+        task.setId( 7 );
+        task.markClean();
+        return task;
+    }
+
+    public void testUntrackedEntityWritesEveryColumn()
+    {
+        Task task = new Task( "Write docs", "User guide", TaskStatus.TODO, 3, LocalDate.of( 2026, 1, 31 ), 1, 1 );
+
+        assertFalse( task.isTracked() );
+        assertEquals( EnumSet.allOf( Task.Field.class ), task.getChangedFields() );
+    }
+
+    public void testOnlyChangedFieldsAreReported()
+    {
+        Task task = loadedTask();
+        task.setStatus( TaskStatus.COMPLETED );
+        task.setPriority( 3 );
+        task.setName( "Write docs" );
+
+        assertEquals( EnumSet.of( Task.Field.STATUS ), task.getChangedFields() );
+
+        task.markClean();
+        assertTrue( task.getChangedFields().isEmpty() );
+    }
+
+    public void testCopyKeepsTrackingState()
+    {
+        User user = new User( "ada", "ada@example.com", UserRole.USER );
+        user.markClean();
+        user.setEmail( "ada@example.org" );
+
+        User copy = new User( user );
+        assertEquals( EnumSet.of( User.Field.EMAIL ), copy.getChangedFields() );
+
+        copy.setRole( UserRole.ADMIN );
+        assertEquals( EnumSet.of( User.Field.EMAIL ), user.getChangedFields() );
+    }
+}
@@ -0,0 +1,53 @@
+package com.task.Task_management.search;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the trigram name index.
+ */
+public class TrigramIndexTest
+    extends TestCase
+{
+    private TrigramIndex<String> index;
+
+    @Override
+    protected void setUp()
+    {
+        index = new TrigramIndex<>();
+        index.put( 1, "Website Redesign", "Website Redesign" );
+        index.put( 2, "Mobile App", "Mobile App" );
+        index.put( 3, "Website", "Website" );
+        index.put( 4, "Company Web Portal", "Company Web Portal" );
+    }
+
+    public void testSubstringMatchesRankedBySimilarity()
+    {
+        assertEquals( Arrays.asList( "Website", "Website Redesign" ), index.search( "WEBSITE", 0 ) );
+        assertEquals( Arrays.asList( "Website", "Website Redesign", "Company Web Portal" ), index.search( "web", 0 ) );
+    }
+
+    public void testShortPatternsAndLimit()
+    {
+        assertEquals( 4, index.search( "e", 0 ).size() );
+        assertEquals( Arrays.asList( "Mobile App" ), index.search( "ob", 0 ) );
+        assertEquals( 1, index.search( "web", 1 ).size() );
+    }
+
+    public void testTrigramsPresentButNotContiguous()
+    {
+        index.put( 5, "abcxbcd", "abcxbcd" );
+        assertTrue( index.search( "abcd", 0 ).isEmpty() );
+    }
+
+    public void testUpdateAndRemove()
+    {
+        index.put( 2, "Mobile Website", "Mobile Website" );
+        index.remove( 3 );
+
+        assertEquals( Arrays.asList( "Website Redesign", "Mobile Website" ), index.search( "website", 0 ) );
+        assertTrue( index.search( "app", 0 ).isEmpty() );
+        assertEquals( 3, index.size() );
+    }
+}
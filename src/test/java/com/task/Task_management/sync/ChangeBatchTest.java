@@ -0,0 +1,62 @@
+package com.task.Task_management.sync;
+
+import java.util.List;
+import java.util.Set;
+
+import com.task.Task_management.sync.ChangeNotification.Entity;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for coalescing a burst of change notifications.
+ */
+public class ChangeBatchTest
+    extends TestCase
+{
+    public void testIdsAreMergedPerEntity()
+    {
+        ChangeBatch batch = new ChangeBatch( "self" );
+        batch.add( "tu:other:1,2" );
+        batch.add( "ti:other:2,3" );
+        batch.add( "td:third:1" );
+        batch.add( "uu:other:7" );
+
+        assertEquals( Set.of( 1, 2, 3 ), batch.ids( Entity.TASK ) );
+        assertEquals( List.of( 1, 2, 3 ), List.copyOf( batch.ids( Entity.TASK ) ) );
+        assertEquals( Set.of( 7 ), batch.ids( Entity.USER ) );
+        assertTrue( batch.ids( Entity.PROJECT ).isEmpty() );
+        assertFalse( batch.isReset( Entity.TASK ) );
+    }
+
+    public void testOwnChangesAreSkipped()
+    {
+        ChangeBatch batch = new ChangeBatch( "self" );
+        batch.add( "tu:self:1" );
+        batch.add( "pr:self:" );
+
+        assertTrue( batch.isEmpty() );
+    }
+
+    public void testResetReplacesIds()
+    {
+        ChangeBatch batch = new ChangeBatch( "self" );
+        batch.add( "tu:other:1" );
+        batch.add( "tr:other:" );
+        batch.add( "tu:other:2" );
+
+        assertTrue( batch.isReset( Entity.TASK ) );
+        assertTrue( batch.ids( Entity.TASK ).isEmpty() );
+        assertFalse( batch.isReset( Entity.USER ) );
+    }
+
+    public void testMalformedPayloadResetsEverything()
+    {
+        ChangeBatch batch = new ChangeBatch( "self" );
+        batch.add( "garbage" );
+
+        for ( Entity entity : Entity.values() )
+        {
+            assertTrue( batch.isReset( entity ) );
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.task.Task_management.sync;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.task.Task_management.sync.ChangeNotification.Entity;
+import com.task.Task_management.sync.ChangeNotification.Op;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the NOTIFY payload format.
+ */
+public class ChangeNotificationTest
+    extends TestCase
+{
+    public void testRoundTrip()
+    {
+        List<String> payloads = ChangeNotification.encode( Entity.TASK, Op.UPDATE, "node1", List.of( 12, 40 ) );
+        assertEquals( List.of( "tu:node1:12,40" ), payloads );
+
+        ChangeNotification notification = ChangeNotification.decode( payloads.get( 0 ) );
+        assertEquals( Entity.TASK, notification.entity() );
+        assertEquals( Op.UPDATE, notification.op() );
+        assertEquals( "node1", notification.origin() );
+        assertEquals( List.of( 12, 40 ), notification.ids() );
+    }
+
+    public void testResetHasNoIds()
+    {
+        List<String> payloads = ChangeNotification.encode( Entity.PROJECT, Op.RESET, "node1", List.of() );
+        assertEquals( List.of( "pr:node1:" ), payloads );
+        assertTrue( ChangeNotification.decode( payloads.get( 0 ) ).ids().isEmpty() );
+    }
+
+    public void testLargeIdListsAreSplit()
+    {
+        List<Integer> ids = new ArrayList<>();
+        for ( int id = 1_000_000; id < 1_005_000; id++ )
+        {
+            ids.add( id );
+        }
+
+        List<String> payloads = ChangeNotification.encode( Entity.USER, Op.DELETE, "node1", ids );
+        assertTrue( payloads.size() > 1 );
+
+        List<Integer> decoded = new ArrayList<>();
+        for ( String payload : payloads )
+        {
+            assertTrue( payload.length() <= ChangeNotification.MAX_PAYLOAD_BYTES );
+            decoded.addAll( ChangeNotification.decode( payload ).ids() );
+        }
+        assertEquals( ids, decoded );
+    }
+
+    public void testMalformedPayloadsAreRejected()
+    {
+        for ( String payload : new String[] { "", "tu", "tu-node1:1", "xu:node1:1", "tu:node1", "tu:node1:1,a" } )
+        {
+            try
+            {
+                ChangeNotification.decode( payload );
+                fail( "Expected IllegalArgumentException for " + payload );
+            }
+            catch ( IllegalArgumentException expected )
+            {
+                // expected
+            }
+        }
+    }
+}